@@ -0,0 +1,52 @@
+import java.lang.management.ManagementFactory;
+import src.*;
+
+public final class AllocationCheck {
+  public static void main(String[] args) {
+    final int DEFAULT_HANDS = 200_000;
+    final int DEFAULT_WARMUP_HANDS = 50_000;
+    final long DEFAULT_SEED = 19;
+    final int MAX_BYTES_PER_HAND = 1;
+    final int hands = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_HANDS;
+    final int warmupHands = args.length > 1 ? Integer.parseInt(args[1])
+        : DEFAULT_WARMUP_HANDS;
+    final long seed = args.length > 2 ? Long.parseLong(args[2]) : DEFAULT_SEED;
+    final double trainedBytes = measure("trained table", hands, warmupHands, seed,
+        StrategyTable.getDefault());
+    if (trainedBytes >= MAX_BYTES_PER_HAND) System.exit(1);
+    final int fallbackHands = hands / 10;
+    final double bytes = measure("equity fallback", fallbackHands, warmupHands / 10, seed,
+        null);
+    if (bytes >= MAX_BYTES_PER_HAND) System.exit(1);
+  }
+
+  private static double measure(final String name, final int hands,
+      final int warmupHands, final long seed, final StrategyTable strategyTable) {
+    final com.sun.management.ThreadMXBean threads =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    final Strategy[] strategies = new Strategy[GameSession.defaultSeats()];
+    for (int i = 0; i < strategies.length; i++) {
+      strategies[i] = new BotStrategy(0, 0, new EquityCalculator(),
+          PreflopTable.getDefault(), strategyTable);
+    }
+    final SimulationEngine engine = new SimulationEngine(strategies, seed);
+    for (int i = 0; i < warmupHands; i++) engine.playHand();
+    final long bytesBefore = allocatedBytes(threads);
+    final long startTime = System.nanoTime();
+    for (int i = 0; i < hands; i++) engine.playHand();
+    final double seconds = (System.nanoTime() - startTime) / 1e9;
+    final long bytes = allocatedBytes(threads) - bytesBefore;
+    System.out.println(String.format("%s: %d hands in %.2f s (%.0f hands/s), %d bytes"
+        + " allocated on all threads (%.3f B/hand)", name, hands, seconds, hands / seconds,
+        bytes, (double) bytes / hands));
+    return (double) bytes / hands;
+  }
+
+  private static long allocatedBytes(final com.sun.management.ThreadMXBean threads) {
+    long total = 0;
+    for (final long bytes : threads.getThreadAllocatedBytes(threads.getAllThreadIds())) {
+      if (bytes > 0) total += bytes;
+    }
+    return total;
+  }
+}
@@ -0,0 +1,83 @@
+import java.io.IOException;
+import java.nio.file.Paths;
+import analytics.*;
+import enums.Combination;
+import src.GameSession;
+
+public final class Analytics {
+  public static void main(String[] args) throws IOException {
+    final int DEFAULT_LAST_HANDS = 1000000;
+    final long lastHands = args.length > 1 ? Long.parseLong(args[1]) : DEFAULT_LAST_HANDS;
+    final AnalyticsReader reader = AnalyticsReader.open(Paths.get(args[0]));
+    System.out.println(String.format("%d hands, %d rows in %d segments (%.2f bytes/row)",
+        reader.getHands(), reader.getRows(), reader.getSegments(),
+        reader.getRows() == 0 ? 0.0 : (double) reader.getSize() / reader.getRows()));
+    long startTime = System.nanoTime();
+    final long[][] positions = reader.scan(() -> new long[GameSession.MAX_SEATS][3],
+        (totals, row) -> {
+          final long[] position = totals[row.getPosition()];
+          position[0]++;
+          position[1] += row.getResult();
+          if (row.getResult() > 0) position[2]++;
+        }, Analytics::merge);
+    printElapsed("Win rate by position", startTime);
+    for (int i = 0; i < positions.length; i++) {
+      final long[] position = positions[i];
+      if (position[0] == 0) continue;
+      System.out.println(String.format("  %-3s %12d rows %10.2f bb/100 %7.2f%% won",
+          positionName(i), position[0],
+          100.0 * position[1] / GameSession.BIG_BLIND_SIZE / position[0],
+          100.0 * position[2] / position[0]));
+    }
+    startTime = System.nanoTime();
+    final long[][] combinations = reader.scan(
+        () -> new long[Combination.values().length + 1][2], (totals, row) -> {
+          final Combination combination = row.getCombination();
+          final long[] total = totals[combination == null ? totals.length - 1
+              : combination.ordinal()];
+          total[0]++;
+          if (row.getResult() > 0) total[1]++;
+        }, Analytics::merge);
+    printElapsed("Showdowns by combination", startTime);
+    long rows = 0;
+    for (final long[] total : combinations) rows += total[0];
+    for (final Combination combination : Combination.values()) {
+      final long[] total = combinations[combination.ordinal()];
+      if (total[0] == 0) continue;
+      System.out.println(String.format("  %-16s %12d %7.3f%% of rows %7.2f%% won",
+          combination, total[0], 100.0 * total[0] / rows, 100.0 * total[1] / total[0]));
+    }
+    startTime = System.nanoTime();
+    final long[][] seats = reader.scanLast(lastHands,
+        () -> new long[GameSession.MAX_SEATS][3], (totals, row) -> {
+          final long[] seat = totals[row.getSeat()];
+          seat[0]++;
+          if (row.isVoluntary()) seat[1]++;
+          if (row.isPreflopRaise()) seat[2]++;
+        }, Analytics::merge);
+    printElapsed("VPIP / PFR by seat over the last " + lastHands + " hands", startTime);
+    for (int i = 0; i < seats.length; i++) {
+      final long[] seat = seats[i];
+      if (seat[0] == 0) continue;
+      System.out.println(String.format("  Player %-2d %10d hands %6.2f%% VPIP %6.2f%% PFR",
+          i + 1, seat[0], 100.0 * seat[1] / seat[0], 100.0 * seat[2] / seat[0]));
+    }
+  }
+
+  private static long[][] merge(final long[][] first, final long[][] second) {
+    for (int i = 0; i < first.length; i++) {
+      for (int j = 0; j < first[i].length; j++) first[i][j] += second[i][j];
+    }
+    return first;
+  }
+
+  private static String positionName(final int position) {
+    final String[] NAMES = { "SB", "BB" };
+    return position < NAMES.length ? NAMES[position] : "+" + (position - 1);
+  }
+
+  private static void printElapsed(final String query, final long startTime) {
+    System.out.println(String.format("%s (%.3f s):", query,
+        (System.nanoTime() - startTime) / 1e9));
+  }
+}
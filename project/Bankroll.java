@@ -0,0 +1,58 @@
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import bankroll.*;
+import src.*;
+
+public final class Bankroll {
+  public static void main(String[] args) throws IOException, InterruptedException {
+    final int DEFAULT_HANDS = 100000;
+    final Path directory = Paths.get(args.length > 0 ? args[0] : "bankroll-data");
+    final int hands = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_HANDS;
+    final int tables = args.length > 2 ? Integer.parseInt(args[2]) : 1;
+    final long seed = args.length > 3 ? Long.parseLong(args[3])
+        : new RandomSource().getSeed();
+    long recoveryStart = System.nanoTime();
+    final BankrollStore store = new BankrollStore(directory);
+    System.out.println(String.format("Recovered %d accounts (%d log records) in %.3f s",
+        store.getAccounts(), store.getRecoveredRecords(),
+        (System.nanoTime() - recoveryStart) / 1e9));
+    final long seqBefore = store.getLastSeq();
+    final long syncsBefore = store.getSyncs();
+    final AtomicInteger tableIdx = new AtomicInteger();
+    try (final TableRunner runner = new TableRunner(seed)) {
+      runner.setHandListeners(() -> {
+        final long[] accounts = new long[GameSession.MAX_SEATS];
+        final int table = tableIdx.getAndIncrement();
+        for (int i = 0; i < accounts.length; i++) {
+          accounts[i] = (long) table * GameSession.MAX_SEATS + i;
+        }
+        return new BankrollRecorder(store, accounts);
+      });
+      runner.start(tables, hands, Bankroll::botStrategies);
+      runner.shutdown();
+      while (!runner.awaitTermination(1, TimeUnit.SECONDS)) System.out.println(runner);
+      System.out.println(runner);
+    }
+    store.awaitDurable(store.getLastSeq());
+    final long records = store.getLastSeq() - seqBefore;
+    final long syncs = store.getSyncs() - syncsBefore;
+    System.out.println(String.format("%d hands logged with %d fsyncs (%.1f hands/fsync)",
+        records, syncs, syncs == 0 ? 0 : (double) records / syncs));
+    final long total = store.getTotalBalance();
+    store.close();
+    recoveryStart = System.nanoTime();
+    try (final BankrollStore recovered = new BankrollStore(directory)) {
+      System.out.println(String.format("Reopened %d accounts in %.3f s, net balance %d"
+          + " (expected %d)", recovered.getAccounts(),
+          (System.nanoTime() - recoveryStart) / 1e9, recovered.getTotalBalance(), total));
+    }
+  }
+
+  private static Strategy[] botStrategies() {
+    final Strategy[] strategies = new Strategy[GameSession.defaultSeats()];
+    for (int i = 0; i < strategies.length; i++) strategies[i] = new BotStrategy();
+    return strategies;
+  }
+}
@@ -0,0 +1,28 @@
+import java.nio.file.*;
+import src.*;
+
+public final class CfrTraining {
+  public static void main(String[] args) throws Exception {
+    final long DEFAULT_ITERATIONS = 2_000_000;
+    final long ROUND_ITERATIONS = 100_000;
+    final long DEFAULT_SEED = 14;
+    final long iterations = args.length > 0 ? Long.parseLong(args[0]) : DEFAULT_ITERATIONS;
+    final int threads = args.length > 1 ? Integer.parseInt(args[1])
+        : Runtime.getRuntime().availableProcessors();
+    final Path checkpoint = Paths.get(args.length > 2 ? args[2] : "cfr-checkpoint.bin");
+    final Path strategy = Paths.get(args.length > 3 ? args[3] : StrategyTable.DEFAULT_PATH);
+    final CfrTrainer trainer = CfrTrainer.resume(checkpoint, PreflopTable.getDefault());
+    System.out.println("Resuming from " + trainer.getIterations() + " iterations");
+    while (trainer.getIterations() < iterations) {
+      final long round = Math.min(ROUND_ITERATIONS, iterations - trainer.getIterations());
+      final long startTime = System.nanoTime();
+      trainer.train(round, threads, DEFAULT_SEED);
+      trainer.checkpoint(checkpoint);
+      final double seconds = (System.nanoTime() - startTime) / 1e9;
+      System.out.println(String.format("%d iterations (%.0f/s), average regret %.5f bb",
+          trainer.getIterations(), round / seconds, trainer.getAverageRegret()));
+    }
+    trainer.writeStrategy(strategy);
+    System.out.println("Strategy written to " + strategy);
+  }
+}
@@ -0,0 +1,144 @@
+import java.util.*;
+import java.util.concurrent.*;
+import enums.Combination;
+import src.*;
+import staticClasses.HandEvaluator;
+
+public final class EvaluatorCheck {
+  private static final int HAND_CARDS = 7;
+  private static final long[] EXPECTED_HANDS = { 23_294_460, 58_627_800, 31_433_400,
+      6_461_620, 6_180_020, 4_047_644, 3_473_184, 224_848, 37_260, 4_324 };
+  private static final int[] EXPECTED_CLASSES = { 407, 1470, 763, 575, 10, 1277, 156,
+      156, 9, 1 };
+
+  public static void main(String[] args) {
+    final int threads = args.length > 0 ? Integer.parseInt(args[0])
+        : Runtime.getRuntime().availableProcessors();
+    final ForkJoinPool pool = new ForkJoinPool(threads);
+    final long startTime = System.nanoTime();
+    final Tally tally;
+    try {
+      tally = pool.invoke(new EnumerationTask(0, Card.DECK_SIZE - HAND_CARDS + 1));
+    } finally {
+      pool.shutdown();
+    }
+    final double seconds = (System.nanoTime() - startTime) / 1e9;
+    final Combination[] combinations = Combination.values();
+    final int[] classes = tally.classes();
+    long hands = 0;
+    boolean isValid = true;
+    System.out.println(String.format("%-16s %12s %12s %8s %8s", "Category", "hands",
+        "expected", "classes", "expected"));
+    for (final Combination combination : combinations) {
+      final int idx = combination.ordinal();
+      final boolean isMatch = tally.counts[idx] == EXPECTED_HANDS[idx]
+          && classes[idx] == EXPECTED_CLASSES[idx];
+      isValid &= isMatch;
+      hands += tally.counts[idx];
+      System.out.println(String.format("%-16s %12d %12d %8d %8d%s", combination,
+          tally.counts[idx], EXPECTED_HANDS[idx], classes[idx], EXPECTED_CLASSES[idx],
+          isMatch ? "" : "  MISMATCH"));
+    }
+    System.out.println(String.format("%d hands on %d threads in %.2f s (%.1f M hands/s, %s)",
+        hands, threads, seconds, hands / seconds / 1e6,
+        BatchEvaluator.isVectorized() ? "vector" : "scalar"));
+    if (!isValid) System.exit(1);
+  }
+
+  private static final class Tally {
+    private static final int SET_BITS = 14;
+    private static final int SET_SIZE = 1 << SET_BITS;
+    private static final int EMPTY = -1;
+    private static final int BATCH_SIZE = 4096;
+    private final long[] counts = new long[Combination.values().length];
+    private final int[] strengths = new int[SET_SIZE];
+    private final BatchEvaluator evaluator = new BatchEvaluator();
+    private final long[] batch = new long[BATCH_SIZE];
+    private final int[] batchStrengths = new int[BATCH_SIZE];
+    private int batchSize;
+
+    private Tally() {
+      Arrays.fill(this.strengths, EMPTY);
+    }
+
+    private void add(final long hand) {
+      this.batch[this.batchSize++] = hand;
+      if (this.batchSize == BATCH_SIZE) this.flush();
+    }
+
+    private void flush() {
+      this.evaluator.evaluate(this.batch, this.batchSize, this.batchStrengths);
+      for (int i = 0; i < this.batchSize; i++) this.add(this.batchStrengths[i]);
+      this.batchSize = 0;
+    }
+
+    private void add(final int strength) {
+      this.counts[strength >>> HandEvaluator.CATEGORY_SHIFT]++;
+      this.insert(strength);
+    }
+
+    private Tally merge(final Tally other) {
+      for (int i = 0; i < this.counts.length; i++) this.counts[i] += other.counts[i];
+      for (final int strength : other.strengths) {
+        if (strength != EMPTY) this.insert(strength);
+      }
+      return this;
+    }
+
+    private void insert(final int strength) {
+      int slot = (strength * 0x9E3779B1) >>> (Integer.SIZE - SET_BITS);
+      while (this.strengths[slot] != strength) {
+        if (this.strengths[slot] == EMPTY) {
+          this.strengths[slot] = strength;
+          return;
+        }
+        slot = (slot + 1) & (SET_SIZE - 1);
+      }
+    }
+
+    private int[] classes() {
+      final int[] classes = new int[this.counts.length];
+      for (final int strength : this.strengths) {
+        if (strength != EMPTY) classes[strength >>> HandEvaluator.CATEGORY_SHIFT]++;
+      }
+      return classes;
+    }
+  }
+
+  private static final class EnumerationTask extends RecursiveTask<Tally> {
+    private static final long serialVersionUID = 1L;
+    private final int from;
+    private final int to;
+
+    private EnumerationTask(final int from, final int to) {
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected Tally compute() {
+      if (this.to - this.from == 1) {
+        final Tally tally = new Tally();
+        enumerate(this.from + 1, HAND_CARDS - 1, 1L << this.from, tally);
+        tally.flush();
+        return tally;
+      }
+      final int middle = (this.from + this.to) >>> 1;
+      final EnumerationTask left = new EnumerationTask(this.from, middle);
+      left.fork();
+      final Tally right = new EnumerationTask(middle, this.to).compute();
+      return left.join().merge(right);
+    }
+
+    private static void enumerate(final int start, final int remaining, final long hand,
+        final Tally tally) {
+      if (remaining == 0) {
+        tally.add(hand);
+        return;
+      }
+      for (int card = start; card <= Card.DECK_SIZE - remaining; card++) {
+        enumerate(card + 1, remaining - 1, hand | 1L << card, tally);
+      }
+    }
+  }
+}
@@ -0,0 +1,30 @@
+import java.io.IOException;
+import java.nio.file.Paths;
+import enums.Action;
+import history.*;
+
+public final class History {
+  public static void main(String[] args) throws IOException {
+    final long[] actions = new long[Action.values().length];
+    final long[] totals = new long[2];
+    final long startTime = System.nanoTime();
+    final long hands = HandHistoryReader.read(Paths.get(args[0]), record -> {
+      totals[0] += record.getPot();
+      for (int i = 0; i < record.getEventsCount(); i++) {
+        final Action action = record.getAction(i);
+        if (action != null) actions[action.ordinal()]++;
+      }
+      for (int seat = 0; seat < record.getSeats(); seat++) {
+        totals[1] += record.getDelta(seat);
+      }
+    });
+    final double seconds = (System.nanoTime() - startTime) / 1e9;
+    System.out.println(String.format("%d hands read in %.3f s (%.0f hands/s)", hands,
+        seconds, hands / seconds));
+    System.out.println("Average pot: " + (hands == 0 ? 0 : totals[0] / hands));
+    System.out.println("Net chips across seats: " + totals[1]);
+    for (final Action action : Action.values()) {
+      System.out.println(action + ": " + actions[action.ordinal()]);
+    }
+  }
+}
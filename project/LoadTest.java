@@ -0,0 +1,39 @@
+import java.net.InetAddress;
+import server.LoadGenerator;
+import server.TableServer;
+import src.GameSession;
+
+public final class LoadTest {
+  public static void main(String[] args) throws Exception {
+    final int DEFAULT_CONNECTIONS = 1000;
+    final int DEFAULT_SECONDS = 10;
+    final long SEED = 16;
+    final int connections = args.length > 0 ? Integer.parseInt(args[0])
+        : DEFAULT_CONNECTIONS;
+    final int seconds = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_SECONDS;
+    final int port = args.length > 2 ? Integer.parseInt(args[2]) : 0;
+    final String host = args.length > 3 ? args[3]
+        : InetAddress.getLoopbackAddress().getHostAddress();
+    if (port != 0) {
+      run(host, port, connections, seconds, SEED);
+      return;
+    }
+    final int seats = GameSession.defaultSeats();
+    final int tables = (connections + seats - 1) / seats;
+    try (final TableServer server = new TableServer(0, tables,
+        TableServer.DEFAULT_TIMEOUT_MILLIS, SEED)) {
+      run(host, server.getPort(), connections, seconds, SEED);
+      System.out.println("Server: " + server);
+    }
+  }
+
+  private static void run(final String host, final int port, final int connections,
+      final int seconds, final long seed) throws Exception {
+    try (final LoadGenerator generator = new LoadGenerator(host, port, connections, seed)) {
+      generator.run(seconds * 1000L);
+      System.out.println("Clients: " + generator);
+      System.out.println(String.format("%.0f actions/s", generator.getActions()
+          / (double) seconds));
+    }
+  }
+}
@@ -0,0 +1,64 @@
+import java.util.Arrays;
+import enums.Action;
+import src.*;
+
+public final class OpponentReadCheck {
+  public static void main(String[] args) {
+    final int DEFAULT_HANDS = 20000;
+    final long DEFAULT_SEED = 42;
+    final int hands = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_HANDS;
+    final long seed = args.length > 1 ? Long.parseLong(args[1]) : DEFAULT_SEED;
+    boolean isPassed = true;
+    for (final boolean isTrained : new boolean[] { true, false }) {
+      final String path = isTrained ? "strategy table" : "equity fallback";
+      final ActionLog reading = play(hands, seed, isTrained, true);
+      final ActionLog replayed = play(hands, seed, isTrained, true);
+      final ActionLog ignoring = play(hands, seed, isTrained, false);
+      final int firstDifference = reading.firstDifference(ignoring);
+      System.out.println(String.format("%s: %d actions with reads, %d without, "
+          + "first changed decision at action %d", path, reading.count, ignoring.count,
+          firstDifference));
+      if (reading.firstDifference(replayed) >= 0) {
+        System.out.println(path + ": seed replay diverged");
+        isPassed = false;
+      }
+      if (firstDifference < 0) {
+        System.out.println(path + ": opponent reads changed no decision");
+        isPassed = false;
+      }
+    }
+    if (!isPassed) System.exit(1);
+  }
+
+  private static ActionLog play(final int hands, final long seed, final boolean isTrained,
+      final boolean isReading) {
+    final Strategy[] strategies = new Strategy[GameSession.defaultSeats()];
+    for (int i = 0; i < strategies.length; i++) {
+      final BotStrategy bot = isTrained ? new BotStrategy()
+          : new BotStrategy(0, 0, new EquityCalculator(), PreflopTable.getDefault());
+      strategies[i] = bot.setReadingOpponents(isReading);
+    }
+    final SimulationEngine engine = new SimulationEngine(strategies, seed);
+    final ActionLog log = new ActionLog();
+    engine.setHandListener(log);
+    for (int i = 0; i < hands; i++) engine.playHand();
+    return log;
+  }
+
+  private static final class ActionLog implements HandListener {
+    private long[] actions = new long[1 << 16];
+    private int count;
+
+    @Override
+    public void onAction(final int seat, final Action action, final int amount) {
+      if (this.count == this.actions.length) {
+        this.actions = Arrays.copyOf(this.actions, this.count * 2);
+      }
+      this.actions[this.count++] = (long) seat << 40 | (long) action.ordinal() << 32 | amount;
+    }
+
+    private int firstDifference(final ActionLog other) {
+      return Arrays.mismatch(this.actions, 0, this.count, other.actions, 0, other.count);
+    }
+  }
+}
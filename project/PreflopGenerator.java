@@ -0,0 +1,15 @@
+import java.nio.file.Paths;
+import src.PreflopTable;
+
+public final class PreflopGenerator {
+  public static void main(String[] args) throws Exception {
+    final int DEFAULT_SAMPLES = 50000;
+    final long DEFAULT_SEED = 169;
+    final String path = args.length > 0 ? args[0] : PreflopTable.DEFAULT_PATH;
+    final int samples = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_SAMPLES;
+    final long startTime = System.nanoTime();
+    PreflopTable.generate(Paths.get(path), samples, DEFAULT_SEED);
+    System.out.println(String.format("Preflop equity table written to %s in %.1f s",
+        path, (System.nanoTime() - startTime) / 1e9));
+  }
+}
@@ -0,0 +1,13 @@
+import src.*;
+
+public final class RangeEquityQuery {
+  public static void main(String[] args) {
+    final HandRange hero = HandRange.parse(args[0]);
+    final HandRange villain = HandRange.parse(args[1]);
+    final long tableMask = args.length > 2 ? HandRange.parseCards(args[2]) : 0L;
+    final long startTime = System.nanoTime();
+    final Equity equity = new RangeEquity().calculate(hero, villain, tableMask);
+    System.out.println(String.format("%s vs %s: %s in %.3f s", hero, villain, equity,
+        (System.nanoTime() - startTime) / 1e9));
+  }
+}
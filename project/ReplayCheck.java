@@ -0,0 +1,85 @@
+import java.util.Arrays;
+import src.*;
+
+public final class ReplayCheck {
+  public static void main(String[] args) {
+    final int DEFAULT_HANDS = 10_000;
+    final long DEFAULT_SEED = 7;
+    final int hands = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_HANDS;
+    final long seed = args.length > 1 ? Long.parseLong(args[1]) : DEFAULT_SEED;
+    final int seats = GameSession.defaultSeats();
+    final CardRecorder session = new CardRecorder(seats);
+    final SimulationEngine engine = new SimulationEngine(strategies(seats), seed);
+    engine.setHandListener(session);
+    final long[] handSeeds = new long[hands];
+    final long[][] holeCards = new long[hands][];
+    final long[] boards = new long[hands];
+    for (int i = 0; i < hands; i++) {
+      engine.playHand();
+      handSeeds[i] = session.handSeed;
+      holeCards[i] = session.holeCards.clone();
+      boards[i] = session.board;
+    }
+    int mismatches = 0;
+    for (int i = hands / 2; i < hands; i++) {
+      final CardRecorder replay = new CardRecorder(seats);
+      final SimulationEngine fresh = new SimulationEngine(strategies(seats), ~seed);
+      fresh.setHandListener(replay);
+      fresh.replayHand(handSeeds[i]);
+      if (replay.board != boards[i]
+          || !Arrays.equals(replay.holeCards, holeCards[i])) {
+        if (mismatches++ == 0) {
+          System.out.println("Hand " + i + " (seed " + handSeeds[i] + ") dealt "
+              + describe(holeCards[i], boards[i]) + " in session but "
+              + describe(replay.holeCards, replay.board) + " on replay");
+        }
+      }
+    }
+    System.out.println("Replayed " + (hands - hands / 2) + " hands of " + hands
+        + " (seed " + seed + "), " + mismatches + " mismatches");
+    if (mismatches > 0) System.exit(1);
+  }
+
+  private static Strategy[] strategies(final int seats) {
+    final Strategy[] strategies = new Strategy[seats];
+    for (int i = 0; i < seats; i++) strategies[i] = new BotStrategy();
+    return strategies;
+  }
+
+  private static String describe(final long[] holeCards, final long board) {
+    final StringBuilder builder = new StringBuilder();
+    for (final long hand : holeCards) {
+      builder.append(Long.numberOfTrailingZeros(hand)).append(',')
+          .append(Long.SIZE - 1 - Long.numberOfLeadingZeros(hand)).append(' ');
+    }
+    for (long cards = board; cards != 0; cards &= cards - 1) {
+      builder.append(Long.numberOfTrailingZeros(cards)).append(' ');
+    }
+    return builder.toString().trim();
+  }
+
+  private static final class CardRecorder implements HandListener {
+    private final long[] holeCards;
+    private long handSeed;
+    private long board;
+
+    private CardRecorder(final int seats) {
+      this.holeCards = new long[seats];
+    }
+
+    @Override
+    public void onHandStart(final long handSeed, final Player[] players) {
+      this.handSeed = handSeed;
+      this.board = 0L;
+      for (int i = 0; i < players.length; i++) {
+        this.holeCards[i] = players[i].getCard(0).getMask() | players[i].getCard(1).getMask();
+      }
+    }
+
+    @Override
+    public void onStreet(final Card[] tableCards, final int tableCardsCount,
+        final int newCardsCount) {
+      for (int i = 0; i < tableCardsCount; i++) this.board |= tableCards[i].getMask();
+    }
+  }
+}
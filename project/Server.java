@@ -0,0 +1,26 @@
+import java.net.InetAddress;
+import server.TableServer;
+
+public final class Server {
+  public static void main(String[] args) throws Exception {
+    final int DEFAULT_PORT = 7777;
+    final int DEFAULT_TABLES = 100;
+    final long REPORT_INTERVAL_MILLIS = 10_000;
+    final int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+    final int tables = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_TABLES;
+    final long timeoutMillis = args.length > 2 ? Long.parseLong(args[2])
+        : TableServer.DEFAULT_TIMEOUT_MILLIS;
+    final long seed = args.length > 3 ? Long.parseLong(args[3]) : System.nanoTime();
+    final InetAddress address = args.length > 4 ? InetAddress.getByName(args[4])
+        : InetAddress.getLoopbackAddress();
+    try (final TableServer server = new TableServer(address, port, tables, timeoutMillis,
+        seed)) {
+      System.out.println("Listening on " + server.getAddress().getHostAddress() + ":"
+          + server.getPort() + " with " + tables + " tables");
+      while (true) {
+        Thread.sleep(REPORT_INTERVAL_MILLIS);
+        System.out.println(server);
+      }
+    }
+  }
+}
@@ -0,0 +1,108 @@
+import java.util.SplittableRandom;
+import enums.Action;
+import enums.Combination;
+import src.*;
+import staticClasses.HandEvaluator;
+
+public final class SidePotCheck {
+  private static final int MIN_PLAYERS = 2;
+  private static final int STRENGTH_BUCKETS = 4;
+  private static final int MAX_STRENGTH = Combination.values().length
+      << HandEvaluator.CATEGORY_SHIFT;
+
+  public static void main(String[] args) {
+    final int DEFAULT_SCENARIOS = 1_000_000;
+    final long DEFAULT_SEED = 11;
+    final int scenarios = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_SCENARIOS;
+    final long seed = args.length > 1 ? Long.parseLong(args[1]) : DEFAULT_SEED;
+    final SplittableRandom random = new SplittableRandom(seed);
+    final Player[][] tables = new Player[GameSession.MAX_SEATS + 1][];
+    final WinnersHandler[] handlers = new WinnersHandler[tables.length];
+    for (int count = MIN_PLAYERS; count < tables.length; count++) {
+      tables[count] = new Player[count];
+      for (int i = 0; i < count; i++) tables[count][i] = new Player(0, "Player " + (i + 1));
+      handlers[count] = new WinnersHandler(tables[count], Output.SILENT);
+    }
+    final int[] contributions = new int[GameSession.MAX_SEATS];
+    final long startTime = System.nanoTime();
+    long chips = 0;
+    for (int scenario = 0; scenario < scenarios; scenario++) {
+      final int count = random.nextInt(MIN_PLAYERS, tables.length);
+      final Player[] players = tables[count];
+      int pot = 0;
+      for (int i = 0; i < count; i++) {
+        contributions[i] = randomContribution(random);
+        pot += contributions[i];
+        deal(players[i], contributions[i], random);
+      }
+      handlers[count].setPotSize(pot);
+      handlers[count].setOddChipSeat(random.nextInt(count));
+      handlers[count].handle();
+      final String error = verify(players, contributions, pot, handlers[count].getPot());
+      if (error != null) {
+        System.out.println("Scenario " + scenario + " (seed " + seed + ") failed: " + error);
+        for (int i = 0; i < count; i++) {
+          System.out.println("  seat " + i + ": in " + contributions[i] + ", won "
+              + players[i].getBalance() + ", active " + players[i].isActive()
+              + ", strength " + players[i].getStrength());
+        }
+        System.exit(1);
+      }
+      chips += pot;
+    }
+    final double seconds = (System.nanoTime() - startTime) / 1e9;
+    System.out.println(String.format("%d side-pot scenarios (%d chips) conserved in %.2f s"
+        + " (%.0f scenarios/s)", scenarios, chips, seconds, scenarios / seconds));
+  }
+
+  private static int randomContribution(final SplittableRandom random) {
+    final int LEVELS = 8;
+    if (random.nextInt(LEVELS) == 0) return 0;
+    if (random.nextBoolean()) {
+      return random.nextInt(1, LEVELS) * GameSession.BIG_BLIND_SIZE;
+    }
+    return random.nextInt(1, GameSession.MAX_BALANCE + 1);
+  }
+
+  private static void deal(final Player player, final int contribution,
+      final SplittableRandom random) {
+    player.changeBalance(contribution - player.getBalance());
+    player.resetGameData();
+    player.putMoneyInPot(contribution, Action.CALL);
+    player.newRound();
+    if (random.nextInt(3) == 0) player.fold();
+    player.setStrength(random.nextBoolean() ? random.nextInt(STRENGTH_BUCKETS)
+        : random.nextInt(MAX_STRENGTH));
+  }
+
+  private static String verify(final Player[] players, final int[] contributions,
+      final int pot, final int remainingPot) {
+    int awarded = 0;
+    boolean hasActive = false;
+    for (final Player player : players) {
+      awarded += player.getBalance();
+      hasActive |= player.isActive() && player.getMoneyInPot() > 0;
+    }
+    if (awarded != pot) return "awarded " + awarded + " of " + pot;
+    if (remainingPot != 0) return "pot left with " + remainingPot;
+    for (int i = 0; i < players.length; i++) {
+      final Player player = players[i];
+      if (player.getBalance() < 0) return "negative award at seat " + i;
+      if (hasActive && !player.isActive() && player.getBalance() > 0) {
+        return "folded seat " + i + " won " + player.getBalance();
+      }
+      if (!hasActive && player.getBalance() != contributions[i]) {
+        return "seat " + i + " not refunded";
+      }
+      for (int j = 0; j < players.length; j++) {
+        final Player other = players[j];
+        if (contributions[i] == contributions[j] && player.isActive() && other.isActive()
+            && player.getStrength() > other.getStrength()
+            && player.getBalance() < other.getBalance()) {
+          return "seat " + i + " outranks seat " + j + " but won less";
+        }
+      }
+    }
+    return null;
+  }
+}
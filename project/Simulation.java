@@ -0,0 +1,49 @@
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+import analytics.*;
+import history.*;
+import metrics.Metrics;
+import src.*;
+
+public final class Simulation {
+  public static void main(String[] args) throws IOException, InterruptedException {
+    final int DEFAULT_HANDS = 100000;
+    final int hands = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_HANDS;
+    final int tables = args.length > 1 ? Integer.parseInt(args[1]) : 1;
+    final long seed = args.length > 2 ? Long.parseLong(args[2])
+        : new RandomSource().getSeed();
+    final HandHistoryLog log = args.length > 3 && !args[3].isEmpty()
+        ? new HandHistoryLog(Paths.get(args[3])) : null;
+    final AnalyticsStore analytics = args.length > 4 && !args[4].isEmpty()
+        ? new AnalyticsStore(Paths.get(args[4])) : null;
+    System.out.println("Seed: " + seed);
+    final OpponentModel opponents = new OpponentModel();
+    try (final TableRunner runner = new TableRunner(seed)) {
+      runner.setOpponentModels(() -> opponents);
+      runner.setHandListeners(() -> HandListener.all(
+          log != null ? new HandHistoryRecorder(log) : HandListener.NONE,
+          analytics != null ? new AnalyticsRecorder(analytics) : HandListener.NONE));
+      runner.start(tables, hands, Simulation::botStrategies);
+      runner.shutdown();
+      while (!runner.awaitTermination(1, TimeUnit.SECONDS)) {
+        System.out.println(runner);
+      }
+      System.out.println(runner);
+      System.out.print(opponents);
+      if (Metrics.ENABLED) System.out.print(Metrics.summary());
+      if (StrengthCache.getDefault() != null) {
+        System.out.println("Strength cache: " + StrengthCache.getDefault());
+      }
+    } finally {
+      if (log != null) log.close();
+      if (analytics != null) analytics.close();
+    }
+  }
+
+  private static Strategy[] botStrategies() {
+    final Strategy[] strategies = new Strategy[GameSession.defaultSeats()];
+    for (int i = 0; i < strategies.length; i++) strategies[i] = new BotStrategy();
+    return strategies;
+  }
+}
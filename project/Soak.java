@@ -0,0 +1,81 @@
+import java.lang.management.*;
+import java.util.concurrent.*;
+import enums.Action;
+import src.*;
+
+public final class Soak {
+  public static void main(String[] args) {
+    final long DEFAULT_SECONDS = 60;
+    final long DEFAULT_REPORT_SECONDS = 10;
+    final long seconds = args.length > 0 ? Long.parseLong(args[0]) : DEFAULT_SECONDS;
+    final long reportSeconds = args.length > 1 ? Long.parseLong(args[1])
+        : DEFAULT_REPORT_SECONDS;
+    final long seed = args.length > 2 ? Long.parseLong(args[2])
+        : new RandomSource().getSeed();
+    final long maxHands = args.length > 3 ? Long.parseLong(args[3]) : Long.MAX_VALUE;
+    final Strategy[] strategies = new Strategy[GameSession.defaultSeats()];
+    for (int i = 0; i < strategies.length; i++) strategies[i] = new BotStrategy();
+    final SimulationEngine engine = new SimulationEngine(strategies, seed);
+    final StackSampler stack = new StackSampler();
+    engine.setHandListener(stack);
+    final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    final long[] lastReport = { 0, System.nanoTime() };
+    System.out.println("Seed: " + seed);
+    System.out.println(String.format("%10s %12s %12s %12s %10s %8s", "elapsed s", "hands",
+        "hands/s", "heap MB", "gc count", "stack"));
+    final HandLoop loop = engine.loop()
+        .stopWhen(StopCondition.duration(seconds, TimeUnit.SECONDS))
+        .stopWhen(StopCondition.hands(maxHands))
+        .reportEvery(reportSeconds, TimeUnit.SECONDS, current -> {
+          final long now = System.nanoTime();
+          final long hands = current.getHandsPlayed();
+          System.out.println(String.format("%10.0f %12d %12.0f %12.1f %10d %8d",
+              current.getElapsedNanos() / 1e9, hands,
+              (hands - lastReport[0]) * 1e9 / (now - lastReport[1]),
+              memory.getHeapMemoryUsage().getUsed() / 1e6, gcCount(), stack.take()));
+          lastReport[0] = hands;
+          lastReport[1] = now;
+        });
+    final CountDownLatch finished = new CountDownLatch(1);
+    Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+      loop.requestStop();
+      try {
+        finished.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }));
+    try {
+      loop.run();
+      System.out.println(String.format("%d hands, %d actions in %.1f s",
+          loop.getHandsPlayed(), engine.getActionsPlayed(), loop.getElapsedNanos() / 1e9));
+    } finally {
+      finished.countDown();
+    }
+  }
+
+  private static final class StackSampler implements HandListener {
+    private boolean isRequested = true;
+    private int depth;
+
+    @Override
+    public void onAction(final int seat, final Action action, final int amount) {
+      if (!this.isRequested) return;
+      this.depth = Thread.currentThread().getStackTrace().length;
+      this.isRequested = false;
+    }
+
+    private int take() {
+      this.isRequested = true;
+      return this.depth;
+    }
+  }
+
+  private static long gcCount() {
+    long count = 0;
+    for (final GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+      count += Math.max(0, gc.getCollectionCount());
+    }
+    return count;
+  }
+}
@@ -0,0 +1,118 @@
+package analytics;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+
+public final class AnalyticsReader {
+  private final List<AnalyticsSegment> segments;
+  private final ForkJoinPool pool;
+
+  private AnalyticsReader(final List<AnalyticsSegment> segments, final ForkJoinPool pool) {
+    this.segments = segments;
+    this.pool = pool;
+  }
+
+  public static AnalyticsReader open(final Path directory) throws IOException {
+    return open(directory, ForkJoinPool.commonPool());
+  }
+
+  public static AnalyticsReader open(final Path directory, final ForkJoinPool pool)
+      throws IOException {
+    final List<AnalyticsSegment> segments = new ArrayList<>();
+    for (final Path path : AnalyticsStore.segments(directory)) {
+      segments.add(AnalyticsSegment.open(path));
+    }
+    return new AnalyticsReader(segments, pool);
+  }
+
+  public long getHands() {
+    long hands = 0;
+    for (final AnalyticsSegment segment : this.segments) hands += segment.getHands();
+    return hands;
+  }
+
+  public long getRows() {
+    long rows = 0;
+    for (final AnalyticsSegment segment : this.segments) rows += segment.getRows();
+    return rows;
+  }
+
+  public long getSize() {
+    long size = 0;
+    for (final AnalyticsSegment segment : this.segments) size += segment.getSize();
+    return size;
+  }
+
+  public int getSegments() {
+    return this.segments.size();
+  }
+
+  public <A> A scan(final Supplier<A> supplier, final BiConsumer<A, Row> accumulator,
+      final BinaryOperator<A> combiner) {
+    return this.scan(0L, supplier, accumulator, combiner);
+  }
+
+  public <A> A scanLast(final long hands, final Supplier<A> supplier,
+      final BiConsumer<A, Row> accumulator, final BinaryOperator<A> combiner) {
+    final AnalyticsSegment last = this.segments.isEmpty() ? null
+        : this.segments.get(this.segments.size() - 1);
+    final long endHand = last == null ? 0L : last.getFirstHand() + last.getHands();
+    return this.scan(Math.max(0L, endHand - hands), supplier, accumulator, combiner);
+  }
+
+  public <A> A scan(final long fromHand, final Supplier<A> supplier,
+      final BiConsumer<A, Row> accumulator, final BinaryOperator<A> combiner) {
+    if (this.segments.isEmpty()) return supplier.get();
+    return this.pool.invoke(new ScanTask<>(this.segments, 0, this.segments.size(),
+        fromHand, supplier, accumulator, combiner));
+  }
+
+  private static final class ScanTask<A> extends RecursiveTask<A> {
+    private static final long serialVersionUID = 1L;
+    private final List<AnalyticsSegment> segments;
+    private final int from;
+    private final int to;
+    private final long fromHand;
+    private final Supplier<A> supplier;
+    private final BiConsumer<A, Row> accumulator;
+    private final BinaryOperator<A> combiner;
+
+    private ScanTask(final List<AnalyticsSegment> segments, final int from, final int to,
+        final long fromHand, final Supplier<A> supplier,
+        final BiConsumer<A, Row> accumulator, final BinaryOperator<A> combiner) {
+      this.segments = segments;
+      this.from = from;
+      this.to = to;
+      this.fromHand = fromHand;
+      this.supplier = supplier;
+      this.accumulator = accumulator;
+      this.combiner = combiner;
+    }
+
+    @Override
+    protected A compute() {
+      if (this.to - this.from == 1) return this.scan(this.segments.get(this.from));
+      final int middle = (this.from + this.to) >>> 1;
+      final ScanTask<A> left = new ScanTask<>(this.segments, this.from, middle,
+          this.fromHand, this.supplier, this.accumulator, this.combiner);
+      left.fork();
+      final A right = new ScanTask<>(this.segments, middle, this.to, this.fromHand,
+          this.supplier, this.accumulator, this.combiner).compute();
+      return this.combiner.apply(left.join(), right);
+    }
+
+    private A scan(final AnalyticsSegment segment) {
+      final A result = this.supplier.get();
+      if (segment.getFirstHand() + segment.getHands() <= this.fromHand) return result;
+      final Row row = new Row();
+      for (int r = segment.firstRow(this.fromHand); r < segment.getRows(); r++) {
+        row.moveTo(segment, r);
+        this.accumulator.accept(result, row);
+      }
+      return result;
+    }
+  }
+}
@@ -0,0 +1,70 @@
+package analytics;
+
+import enums.Action;
+import src.*;
+
+public final class AnalyticsRecorder implements HandListener {
+  private final AnalyticsStore store;
+  private final int[][] rows = new int[GameSession.MAX_SEATS][Column.COUNT];
+  private final boolean[] isSeated = new boolean[GameSession.MAX_SEATS];
+  private final int[] actions = new int[GameSession.MAX_SEATS];
+  private int smallBlindSeat;
+  private int street;
+
+  public AnalyticsRecorder(final AnalyticsStore store) {
+    this.store = store;
+  }
+
+  @Override
+  public void onHandStart(final long handSeed, final Player[] players) {
+    for (int seat = 0; seat < players.length; seat++) {
+      this.actions[seat] = 0;
+      this.isSeated[seat] = players[seat].getBalance() > 0;
+    }
+    this.street = 0;
+  }
+
+  @Override
+  public void onBlind(final int seat, final int amount, final boolean isBigBlind) {
+    if (!isBigBlind) this.smallBlindSeat = seat;
+  }
+
+  @Override
+  public void onStreet(final Card[] tableCards, final int tableCardsCount,
+      final int newCardsCount) {
+    this.street++;
+  }
+
+  @Override
+  public void onAction(final int seat, final Action action, final int amount) {
+    this.actions[seat] |= Row.actionBit(this.street, action);
+  }
+
+  @Override
+  public void onHandEnd(final Player[] players, final int pot) {
+    int seatedCount = 0;
+    int activeCount = 0;
+    for (int seat = 0; seat < players.length; seat++) {
+      if (!this.isSeated[seat]) continue;
+      seatedCount++;
+      if (players[seat].isActive()) activeCount++;
+    }
+    int count = 0;
+    for (int i = 0; i < players.length; i++) {
+      final int seat = (this.smallBlindSeat + i) % players.length;
+      if (!this.isSeated[seat]) continue;
+      final Player player = players[seat];
+      final int[] row = this.rows[count];
+      row[Column.SEATS.ordinal()] = seatedCount;
+      row[Column.SEAT.ordinal()] = seat;
+      row[Column.POSITION.ordinal()] = count;
+      row[Column.ACTIONS.ordinal()] = this.actions[seat];
+      row[Column.POT.ordinal()] = pot;
+      row[Column.COMBINATION.ordinal()] = activeCount > 1 && player.isActive()
+          ? player.getCombination().ordinal() : Row.NO_COMBINATION;
+      row[Column.RESULT.ordinal()] = player.getBalanceDelta();
+      count++;
+    }
+    this.store.append(this.rows, count);
+  }
+}
@@ -0,0 +1,87 @@
+package analytics;
+
+import java.io.IOException;
+import java.nio.*;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+
+final class AnalyticsSegment {
+  private final ByteBuffer buffer;
+  private final int rows;
+  private final long firstHand;
+  private final int hands;
+  private final int[] mins = new int[Column.COUNT];
+  private final int[] widths = new int[Column.COUNT];
+  private final long[] masks = new long[Column.COUNT];
+  private final int[] offsets = new int[Column.COUNT];
+
+  private AnalyticsSegment(final ByteBuffer buffer) {
+    this.buffer = buffer;
+    this.rows = buffer.getInt(2 * Integer.BYTES);
+    this.firstHand = buffer.getLong(4 * Integer.BYTES);
+    this.hands = buffer.getInt(4 * Integer.BYTES + Long.BYTES);
+    for (int c = 0; c < Column.COUNT; c++) {
+      final int entry = AnalyticsStore.HEADER_SIZE + c * AnalyticsStore.COLUMN_ENTRY_SIZE;
+      this.mins[c] = buffer.getInt(entry);
+      this.widths[c] = buffer.getInt(entry + Integer.BYTES);
+      this.masks[c] = this.widths[c] == 0 ? 0L : -1L >>> (Long.SIZE - this.widths[c]);
+      this.offsets[c] = (int) buffer.getLong(entry + 2 * Integer.BYTES);
+    }
+  }
+
+  static AnalyticsSegment open(final Path path) throws IOException {
+    final MappedByteBuffer buffer;
+    try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+    }
+    buffer.order(ByteOrder.LITTLE_ENDIAN);
+    if (buffer.capacity() < AnalyticsStore.HEADER_SIZE
+        || buffer.getInt(0) != AnalyticsStore.MAGIC
+        || buffer.getInt(Integer.BYTES) != AnalyticsStore.VERSION
+        || buffer.getInt(3 * Integer.BYTES) != Column.COUNT) {
+      throw new IOException("Not an analytics segment: " + path);
+    }
+    final AnalyticsSegment segment = new AnalyticsSegment(buffer);
+    final int last = Column.COUNT - 1;
+    if (buffer.capacity() < segment.offsets[last]
+        + AnalyticsStore.packedSize(segment.rows, segment.widths[last])) {
+      throw new IOException("Truncated analytics segment: " + path);
+    }
+    return segment;
+  }
+
+  int getRows() {
+    return this.rows;
+  }
+
+  long getFirstHand() {
+    return this.firstHand;
+  }
+
+  int getHands() {
+    return this.hands;
+  }
+
+  long getSize() {
+    return this.buffer.capacity();
+  }
+
+  int get(final Column column, final int row) {
+    final int c = column.ordinal();
+    final long bit = (long) row * this.widths[c];
+    final long word = this.buffer.getLong(this.offsets[c] + (int) (bit >>> 3));
+    return this.mins[c] + (int) (word >>> (bit & 7) & this.masks[c]);
+  }
+
+  int firstRow(final long fromHand) {
+    final long hand = fromHand - this.firstHand;
+    int low = 0;
+    int high = this.rows;
+    while (low < high) {
+      final int middle = (low + high) >>> 1;
+      if (this.get(Column.HAND, middle) < hand) low = middle + 1;
+      else high = middle;
+    }
+    return low;
+  }
+}
@@ -0,0 +1,166 @@
+package analytics;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.util.*;
+
+public final class AnalyticsStore implements Closeable {
+  public static final int DEFAULT_SEGMENT_ROWS = 1 << 20;
+  static final int MAGIC = 0x48414353;
+  static final int VERSION = 1;
+  static final int HEADER_SIZE = 32;
+  static final int COLUMN_ENTRY_SIZE = 16;
+  static final String SEGMENT_PREFIX = "rows-";
+  static final String SEGMENT_SUFFIX = ".col";
+  private final Path directory;
+  private final int[][] columns;
+  private int segmentIdx;
+  private int rows;
+  private int segmentHands;
+  private long firstHand;
+  private long handsWritten;
+  private boolean isClosed;
+
+  public AnalyticsStore(final Path directory) throws IOException {
+    this(directory, DEFAULT_SEGMENT_ROWS);
+  }
+
+  public AnalyticsStore(final Path directory, final int segmentRows) throws IOException {
+    this.directory = Files.createDirectories(directory);
+    this.columns = new int[Column.COUNT][segmentRows];
+    final List<Path> segments = segments(directory);
+    if (!segments.isEmpty()) {
+      final Path last = segments.get(segments.size() - 1);
+      final AnalyticsSegment segment = AnalyticsSegment.open(last);
+      this.segmentIdx = segmentIndex(last) + 1;
+      this.handsWritten = segment.getFirstHand() + segment.getHands();
+    }
+    this.firstHand = this.handsWritten;
+  }
+
+  public synchronized long append(final int[][] handRows, final int count) {
+    if (this.isClosed) throw new IllegalStateException("Analytics store is closed");
+    final int capacity = this.columns[0].length;
+    if (count > capacity) {
+      throw new IllegalArgumentException(count + " rows do not fit a segment");
+    }
+    if (this.rows + count > capacity) this.flushUnchecked();
+    final long hand = this.handsWritten++;
+    for (int r = 0; r < count; r++) {
+      final int[] row = handRows[r];
+      for (int c = 0; c < Column.COUNT; c++) this.columns[c][this.rows] = row[c];
+      this.columns[Column.HAND.ordinal()][this.rows] = (int) (hand - this.firstHand);
+      this.rows++;
+    }
+    this.segmentHands++;
+    return hand;
+  }
+
+  public synchronized long getHandsWritten() {
+    return this.handsWritten;
+  }
+
+  @Override
+  public synchronized void close() throws IOException {
+    if (this.isClosed) return;
+    this.flush();
+    this.isClosed = true;
+  }
+
+  private void flushUnchecked() {
+    try {
+      this.flush();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private void flush() throws IOException {
+    if (this.rows == 0) return;
+    final int[] mins = new int[Column.COUNT];
+    final int[] widths = new int[Column.COUNT];
+    long size = HEADER_SIZE + (long) Column.COUNT * COLUMN_ENTRY_SIZE;
+    for (int c = 0; c < Column.COUNT; c++) {
+      int min = Integer.MAX_VALUE;
+      int max = Integer.MIN_VALUE;
+      for (int r = 0; r < this.rows; r++) {
+        min = Math.min(min, this.columns[c][r]);
+        max = Math.max(max, this.columns[c][r]);
+      }
+      mins[c] = min;
+      widths[c] = Long.SIZE - Long.numberOfLeadingZeros((long) max - min);
+      size += packedSize(this.rows, widths[c]);
+    }
+    final ByteBuffer buffer = ByteBuffer.allocate(Math.toIntExact(size))
+        .order(ByteOrder.LITTLE_ENDIAN);
+    buffer.putInt(MAGIC).putInt(VERSION).putInt(this.rows).putInt(Column.COUNT)
+        .putLong(this.firstHand).putInt(this.segmentHands).putInt(0);
+    long offset = HEADER_SIZE + (long) Column.COUNT * COLUMN_ENTRY_SIZE;
+    for (int c = 0; c < Column.COUNT; c++) {
+      buffer.putInt(mins[c]).putInt(widths[c]).putLong(offset);
+      offset += packedSize(this.rows, widths[c]);
+    }
+    for (int c = 0; c < Column.COUNT; c++) {
+      pack(this.columns[c], this.rows, mins[c], widths[c], buffer);
+    }
+    final Path path = this.directory.resolve(String.format("%s%06d%s", SEGMENT_PREFIX,
+        this.segmentIdx++, SEGMENT_SUFFIX));
+    final Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+    try (final FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+        StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+      buffer.flip();
+      while (buffer.hasRemaining()) channel.write(buffer);
+      channel.force(true);
+    }
+    Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE);
+    this.firstHand = this.handsWritten;
+    this.segmentHands = 0;
+    this.rows = 0;
+  }
+
+  static long packedSize(final int rows, final int width) {
+    return ((long) rows * width + Byte.SIZE - 1) / Byte.SIZE + Long.BYTES;
+  }
+
+  private static void pack(final int[] values, final int rows, final int min,
+      final int width, final ByteBuffer buffer) {
+    final int end = buffer.position() + (int) packedSize(rows, width);
+    long bits = 0L;
+    int bitsCount = 0;
+    for (int r = 0; r < rows; r++) {
+      final long value = (long) values[r] - min;
+      bits |= value << bitsCount;
+      bitsCount += width;
+      if (bitsCount >= Long.SIZE) {
+        buffer.putLong(bits);
+        bitsCount -= Long.SIZE;
+        bits = bitsCount == 0 ? 0L : value >>> (width - bitsCount);
+      }
+    }
+    while (bitsCount > 0) {
+      buffer.put((byte) bits);
+      bits >>>= Byte.SIZE;
+      bitsCount -= Byte.SIZE;
+    }
+    buffer.position(end);
+  }
+
+  static List<Path> segments(final Path directory) throws IOException {
+    final List<Path> segments = new ArrayList<>();
+    if (!Files.isDirectory(directory)) return segments;
+    try (final DirectoryStream<Path> stream = Files.newDirectoryStream(directory,
+        SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+      for (final Path path : stream) segments.add(path);
+    }
+    Collections.sort(segments);
+    return segments;
+  }
+
+  private static int segmentIndex(final Path segment) {
+    final String name = segment.getFileName().toString();
+    return Integer.parseInt(name.substring(SEGMENT_PREFIX.length(),
+        name.length() - SEGMENT_SUFFIX.length()));
+  }
+}
@@ -0,0 +1,8 @@
+package analytics;
+
+public enum Column {
+  HAND, SEATS, SEAT, POSITION, ACTIONS, POT, COMBINATION, RESULT;
+
+  static final Column[] VALUES = values();
+  static final int COUNT = VALUES.length;
+}
@@ -0,0 +1,76 @@
+package analytics;
+
+import enums.*;
+import src.GameSession;
+
+public final class Row {
+  public static final int STREETS = GameSession.ROUNDS_LENGTH + 1;
+  public static final int NO_COMBINATION = -1;
+  static final int ACTION_BITS = Action.values().length;
+  private static final Combination[] COMBINATIONS = Combination.values();
+  private static final int VOLUNTARY = 1 << Action.CALL.ordinal() | 1 << Action.RAISE.ordinal();
+  private AnalyticsSegment segment;
+  private int idx;
+
+  void moveTo(final AnalyticsSegment segment, final int idx) {
+    this.segment = segment;
+    this.idx = idx;
+  }
+
+  public int get(final Column column) {
+    return this.segment.get(column, this.idx);
+  }
+
+  public long getHand() {
+    return this.segment.getFirstHand() + this.get(Column.HAND);
+  }
+
+  public int getSeats() {
+    return this.get(Column.SEATS);
+  }
+
+  public int getSeat() {
+    return this.get(Column.SEAT);
+  }
+
+  public int getPosition() {
+    return this.get(Column.POSITION);
+  }
+
+  public int getPot() {
+    return this.get(Column.POT);
+  }
+
+  public int getResult() {
+    return this.get(Column.RESULT);
+  }
+
+  public boolean isShowdown() {
+    return this.get(Column.COMBINATION) != NO_COMBINATION;
+  }
+
+  public Combination getCombination() {
+    final int combination = this.get(Column.COMBINATION);
+    return combination == NO_COMBINATION ? null : COMBINATIONS[combination];
+  }
+
+  public boolean hasAction(final int street, final Action action) {
+    return (this.streetActions(street) & 1 << action.ordinal()) != 0;
+  }
+
+  public boolean isVoluntary() {
+    return (this.streetActions(0) & VOLUNTARY) != 0;
+  }
+
+  public boolean isPreflopRaise() {
+    return this.hasAction(0, Action.RAISE);
+  }
+
+  private int streetActions(final int street) {
+    return this.get(Column.ACTIONS) >>> street * ACTION_BITS & (1 << ACTION_BITS) - 1;
+  }
+
+  static int actionBit(final int street, final Action action) {
+    return 1 << street * ACTION_BITS + action.ordinal();
+  }
+}
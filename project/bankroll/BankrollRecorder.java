@@ -0,0 +1,44 @@
+package bankroll;
+
+import src.*;
+
+public final class BankrollRecorder implements HandListener {
+  private final BankrollStore store;
+  private final long[] seatAccounts;
+  private final long[] accounts;
+  private final int[] deltas;
+  private long lastSeq;
+
+  public BankrollRecorder(final BankrollStore store, final long[] seatAccounts) {
+    this.store = store;
+    this.seatAccounts = seatAccounts.clone();
+    this.accounts = new long[seatAccounts.length];
+    this.deltas = new int[seatAccounts.length];
+  }
+
+  @Override
+  public int onSeat(final int seat, final int balance) {
+    if (seat >= this.seatAccounts.length) return balance;
+    final long account = this.seatAccounts[seat];
+    final long stored = this.store.getBalance(account);
+    if (stored > 0) return (int) Math.min(Integer.MAX_VALUE, stored);
+    this.lastSeq = this.store.adjust(account, Math.toIntExact(balance - stored));
+    return balance;
+  }
+
+  @Override
+  public void onHandEnd(final Player[] players, final int pot) {
+    int count = 0;
+    for (int i = 0; i < players.length && i < this.seatAccounts.length; i++) {
+      final int delta = players[i].getBalanceDelta();
+      if (players[i].getBalance() == delta) continue;
+      this.accounts[count] = this.seatAccounts[i];
+      this.deltas[count++] = delta;
+    }
+    if (count > 0) this.lastSeq = this.store.recordHand(this.accounts, this.deltas, count);
+  }
+
+  public long getLastSeq() {
+    return this.lastSeq;
+  }
+}
@@ -0,0 +1,390 @@
+package bankroll;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32C;
+
+public final class BankrollStore implements Closeable {
+  public static final int DEFAULT_SEGMENT_SIZE = 64 << 20;
+  public static final long DEFAULT_SNAPSHOT_INTERVAL = 1 << 20;
+  public static final long DEFAULT_COMMIT_INTERVAL_MICROS = 1000;
+  static final int MAGIC = 0x424b574c;
+  static final int SNAPSHOT_MAGIC = 0x424b534e;
+  static final int VERSION = 1;
+  static final int HEADER_SIZE = 16;
+  static final int RECORD_HEADER_SIZE = 2 * Integer.BYTES;
+  static final int ENTRY_SIZE = Long.BYTES + Integer.BYTES;
+  static final byte HAND = 0;
+  static final byte ADJUSTMENT = 1;
+  private static final String SEGMENT_PREFIX = "wal-";
+  private static final String SEGMENT_SUFFIX = ".log";
+  private static final String SNAPSHOT_PREFIX = "snapshot-";
+  private static final String SNAPSHOT_SUFFIX = ".bin";
+  private static final int BALANCE = 0;
+  private static final int HANDS = 1;
+  private static final int WINS = 2;
+  private static final int INITIAL_BATCH_SIZE = 1 << 16;
+  private final Path directory;
+  private final int segmentSize;
+  private final long snapshotInterval;
+  private final long commitIntervalNanos;
+  private final Map<Long, long[]> accounts = new HashMap<>();
+  private final Object durableLock = new Object();
+  private final Thread writer;
+  private ByteBuffer pending = newBatch(INITIAL_BATCH_SIZE);
+  private ByteBuffer writing = newBatch(INITIAL_BATCH_SIZE);
+  private long lastSeq;
+  private long snapshotSeq;
+  private volatile long durableSeq;
+  private volatile IOException failure;
+  private boolean isClosed;
+  private FileChannel segment;
+  private long segmentBytes;
+  private long syncs;
+  private long recoveredRecords;
+
+  public BankrollStore(final Path directory) throws IOException {
+    this(directory, DEFAULT_SEGMENT_SIZE, DEFAULT_SNAPSHOT_INTERVAL,
+        DEFAULT_COMMIT_INTERVAL_MICROS);
+  }
+
+  public BankrollStore(final Path directory, final int segmentSize,
+      final long snapshotInterval, final long commitIntervalMicros) throws IOException {
+    this.directory = Files.createDirectories(directory);
+    this.segmentSize = segmentSize;
+    this.snapshotInterval = snapshotInterval;
+    this.commitIntervalNanos = TimeUnit.MICROSECONDS.toNanos(commitIntervalMicros);
+    this.recover();
+    this.durableSeq = this.lastSeq;
+    this.roll();
+    this.writer = new Thread(this::write, "bankroll-writer");
+    this.writer.setDaemon(true);
+    this.writer.start();
+  }
+
+  public long recordHand(final long[] accounts, final int[] deltas, final int count) {
+    return this.append(HAND, accounts, deltas, count);
+  }
+
+  public long adjust(final long account, final int delta) {
+    return this.append(ADJUSTMENT, new long[] { account }, new int[] { delta }, 1);
+  }
+
+  private synchronized long append(final byte type, final long[] accounts,
+      final int[] deltas, final int count) {
+    if (this.isClosed) throw new IllegalStateException("Bankroll store is closed");
+    if (this.failure != null) throw new UncheckedIOException(this.failure);
+    if (count > Short.MAX_VALUE) {
+      throw new IllegalArgumentException("At most " + Short.MAX_VALUE
+          + " entries fit in one record, got " + count);
+    }
+    final long seq = ++this.lastSeq;
+    this.apply(type, accounts, deltas, count);
+    final int payloadSize = payloadSize(count);
+    if (this.pending.remaining() < RECORD_HEADER_SIZE + payloadSize) {
+      this.pending = grow(this.pending, RECORD_HEADER_SIZE + payloadSize);
+    }
+    final int start = this.pending.position();
+    this.pending.putInt(payloadSize).putInt(0).putLong(seq).put(type)
+        .putShort((short) count);
+    for (int i = 0; i < count; i++) this.pending.putLong(accounts[i]).putInt(deltas[i]);
+    this.pending.putInt(start + Integer.BYTES,
+        checksum(this.pending, start + RECORD_HEADER_SIZE, payloadSize));
+    if (start == 0) this.notifyAll();
+    return seq;
+  }
+
+  public void awaitDurable(final long seq) throws IOException, InterruptedException {
+    synchronized (this.durableLock) {
+      while (this.durableSeq < seq && this.failure == null) this.durableLock.wait();
+    }
+    if (this.durableSeq < seq) throw this.failure;
+  }
+
+  public synchronized long getBalance(final long account) {
+    return this.stat(account, BALANCE);
+  }
+
+  public synchronized long getHands(final long account) {
+    return this.stat(account, HANDS);
+  }
+
+  public synchronized long getWins(final long account) {
+    return this.stat(account, WINS);
+  }
+
+  public synchronized int getAccounts() {
+    return this.accounts.size();
+  }
+
+  public synchronized long getTotalBalance() {
+    long total = 0;
+    for (final long[] stats : this.accounts.values()) total += stats[BALANCE];
+    return total;
+  }
+
+  public synchronized long getLastSeq() {
+    return this.lastSeq;
+  }
+
+  public long getDurableSeq() {
+    return this.durableSeq;
+  }
+
+  public synchronized long getSyncs() {
+    return this.syncs;
+  }
+
+  public long getRecoveredRecords() {
+    return this.recoveredRecords;
+  }
+
+  public void snapshot() throws IOException {
+    final Map<Long, long[]> copy = new HashMap<>();
+    final long seq;
+    synchronized (this) {
+      for (final Map.Entry<Long, long[]> entry : this.accounts.entrySet()) {
+        copy.put(entry.getKey(), entry.getValue().clone());
+      }
+      seq = this.lastSeq;
+    }
+    final int size = HEADER_SIZE + Integer.BYTES + copy.size() * 4 * Long.BYTES
+        + Integer.BYTES;
+    final ByteBuffer buffer = ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+    buffer.putInt(SNAPSHOT_MAGIC).putInt(VERSION).putLong(seq).putInt(copy.size());
+    for (final Map.Entry<Long, long[]> entry : copy.entrySet()) {
+      final long[] stats = entry.getValue();
+      buffer.putLong(entry.getKey()).putLong(stats[BALANCE]).putLong(stats[HANDS])
+          .putLong(stats[WINS]);
+    }
+    buffer.putInt(checksum(buffer, 0, buffer.position()));
+    final Path path = this.directory.resolve(name(SNAPSHOT_PREFIX, seq, SNAPSHOT_SUFFIX));
+    final Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+    try (final FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+        StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+      buffer.flip();
+      while (buffer.hasRemaining()) channel.write(buffer);
+      channel.force(true);
+    }
+    Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING,
+        StandardCopyOption.ATOMIC_MOVE);
+    this.compact(seq);
+  }
+
+  @Override
+  public void close() throws IOException {
+    synchronized (this) {
+      if (this.isClosed) return;
+      this.isClosed = true;
+      this.notifyAll();
+    }
+    try {
+      this.writer.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    if (this.failure != null) throw this.failure;
+    this.segment.close();
+    this.snapshot();
+  }
+
+  private void write() {
+    long nextCommit = System.nanoTime();
+    try {
+      while (true) {
+        final long batchSeq;
+        synchronized (this) {
+          while (!this.isClosed) {
+            if (this.pending.position() == 0) {
+              this.wait();
+              continue;
+            }
+            final long delay = nextCommit - System.nanoTime();
+            if (delay <= 0) break;
+            TimeUnit.NANOSECONDS.timedWait(this, delay);
+          }
+          if (this.pending.position() == 0) return;
+          final ByteBuffer batch = this.pending;
+          this.pending = this.writing;
+          this.writing = batch;
+          batchSeq = this.lastSeq;
+        }
+        nextCommit = System.nanoTime() + this.commitIntervalNanos;
+        this.writing.flip();
+        this.segmentBytes += this.writing.remaining();
+        while (this.writing.hasRemaining()) this.segment.write(this.writing);
+        this.segment.force(false);
+        this.writing.clear();
+        synchronized (this) {
+          this.syncs++;
+        }
+        synchronized (this.durableLock) {
+          this.durableSeq = batchSeq;
+          this.durableLock.notifyAll();
+        }
+        if (batchSeq - this.snapshotSeq >= this.snapshotInterval) {
+          this.snapshotSeq = batchSeq;
+          this.roll();
+          this.snapshot();
+        } else if (this.segmentBytes >= this.segmentSize) {
+          this.roll();
+        }
+      }
+    } catch (IOException e) {
+      this.failure = e;
+    } catch (InterruptedException e) {
+      this.failure = new InterruptedIOException("Bankroll writer interrupted");
+    } finally {
+      synchronized (this.durableLock) {
+        this.durableLock.notifyAll();
+      }
+    }
+  }
+
+  private void roll() throws IOException {
+    if (this.segment != null) this.segment.close();
+    final long firstSeq;
+    synchronized (this) {
+      firstSeq = this.durableSeq + 1;
+    }
+    final Path path = this.directory.resolve(name(SEGMENT_PREFIX, firstSeq, SEGMENT_SUFFIX));
+    this.segment = FileChannel.open(path, StandardOpenOption.CREATE,
+        StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+    final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    header.putInt(MAGIC).putInt(VERSION).putLong(firstSeq).flip();
+    while (header.hasRemaining()) this.segment.write(header);
+    this.segmentBytes = HEADER_SIZE;
+  }
+
+  private void compact(final long seq) throws IOException {
+    final List<Path> segments = files(this.directory, SEGMENT_PREFIX, SEGMENT_SUFFIX);
+    for (int i = 0; i + 1 < segments.size(); i++) {
+      if (sequence(segments.get(i + 1), SEGMENT_PREFIX, SEGMENT_SUFFIX) <= seq + 1) {
+        Files.deleteIfExists(segments.get(i));
+      }
+    }
+    for (final Path snapshot : files(this.directory, SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX)) {
+      if (sequence(snapshot, SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX) < seq) {
+        Files.deleteIfExists(snapshot);
+      }
+    }
+  }
+
+  private static int payloadSize(final int count) {
+    return Long.BYTES + 1 + Short.BYTES + count * ENTRY_SIZE;
+  }
+
+  private void recover() throws IOException {
+    final List<Path> snapshots = files(this.directory, SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX);
+    for (int i = snapshots.size() - 1; i >= 0 && this.lastSeq == 0; i--) {
+      this.loadSnapshot(snapshots.get(i));
+    }
+    this.snapshotSeq = this.lastSeq;
+    final long[] accounts = new long[Short.MAX_VALUE];
+    final int[] deltas = new int[Short.MAX_VALUE];
+    for (final Path path : files(this.directory, SEGMENT_PREFIX, SEGMENT_SUFFIX)) {
+      final ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(path))
+          .order(ByteOrder.LITTLE_ENDIAN);
+      if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC
+          || buffer.getInt() != VERSION) {
+        continue;
+      }
+      buffer.position(HEADER_SIZE);
+      while (buffer.remaining() >= RECORD_HEADER_SIZE) {
+        final int start = buffer.position();
+        final int payloadSize = buffer.getInt();
+        final int crc = buffer.getInt();
+        if (payloadSize <= 0 || payloadSize > buffer.remaining()
+            || checksum(buffer, start + RECORD_HEADER_SIZE, payloadSize) != crc) {
+          break;
+        }
+        final long seq = buffer.getLong();
+        final byte type = buffer.get();
+        final int count = buffer.getShort();
+        if (count < 0 || payloadSize != payloadSize(count)) break;
+        for (int i = 0; i < count; i++) {
+          accounts[i] = buffer.getLong();
+          deltas[i] = buffer.getInt();
+        }
+        if (seq <= this.lastSeq) continue;
+        this.apply(type, accounts, deltas, count);
+        this.lastSeq = seq;
+        this.recoveredRecords++;
+      }
+    }
+  }
+
+  private void loadSnapshot(final Path path) throws IOException {
+    final ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(path))
+        .order(ByteOrder.LITTLE_ENDIAN);
+    final int end = buffer.capacity() - Integer.BYTES;
+    if (end < HEADER_SIZE || buffer.getInt() != SNAPSHOT_MAGIC
+        || buffer.getInt() != VERSION || checksum(buffer, 0, end) != buffer.getInt(end)) {
+      return;
+    }
+    final long seq = buffer.getLong();
+    final int count = buffer.getInt();
+    for (int i = 0; i < count; i++) {
+      this.accounts.put(buffer.getLong(),
+          new long[] { buffer.getLong(), buffer.getLong(), buffer.getLong() });
+    }
+    this.lastSeq = seq;
+  }
+
+  private void apply(final byte type, final long[] accounts, final int[] deltas,
+      final int count) {
+    for (int i = 0; i < count; i++) {
+      final long[] stats = this.accounts.computeIfAbsent(accounts[i], k -> new long[3]);
+      stats[BALANCE] += deltas[i];
+      if (type != HAND) continue;
+      stats[HANDS]++;
+      if (deltas[i] > 0) stats[WINS]++;
+    }
+  }
+
+  private long stat(final long account, final int idx) {
+    final long[] stats = this.accounts.get(account);
+    return stats == null ? 0 : stats[idx];
+  }
+
+  private static ByteBuffer newBatch(final int capacity) {
+    return ByteBuffer.allocate(capacity).order(ByteOrder.LITTLE_ENDIAN);
+  }
+
+  private static ByteBuffer grow(final ByteBuffer buffer, final int required) {
+    final ByteBuffer grown = newBatch(Math.max(buffer.capacity() * 2,
+        buffer.position() + required));
+    buffer.flip();
+    return grown.put(buffer);
+  }
+
+  private static int checksum(final ByteBuffer buffer, final int offset, final int length) {
+    final CRC32C crc = new CRC32C();
+    crc.update(buffer.duplicate().position(offset).limit(offset + length));
+    return (int) crc.getValue();
+  }
+
+  private static String name(final String prefix, final long seq, final String suffix) {
+    return String.format("%s%019d%s", prefix, seq, suffix);
+  }
+
+  private static long sequence(final Path path, final String prefix, final String suffix) {
+    final String name = path.getFileName().toString();
+    return Long.parseLong(name.substring(prefix.length(), name.length() - suffix.length()));
+  }
+
+  private static List<Path> files(final Path directory, final String prefix,
+      final String suffix) throws IOException {
+    final List<Path> files = new ArrayList<>();
+    try (final DirectoryStream<Path> stream = Files.newDirectoryStream(directory,
+        prefix + "*" + suffix)) {
+      for (final Path path : stream) files.add(path);
+    }
+    Collections.sort(files);
+    return files;
+  }
+}
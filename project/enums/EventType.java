@@ -0,0 +1,5 @@
+package enums;
+
+public enum EventType {
+  DEAL, STREET, SKIP, ACTION, POT, SHOWDOWN, PAYOUT
+}
@@ -0,0 +1,5 @@
+package enums;
+
+public enum Phase {
+  HAND, DEAL, PREFLOP, FLOP, TURN, RIVER, DECISION, SHOWDOWN
+}
@@ -0,0 +1,5 @@
+package enums;
+
+public enum Stat {
+  VPIP, PFR, AGGRESSION, FOLD_TO_RAISE, SHOWDOWN_STRENGTH
+}
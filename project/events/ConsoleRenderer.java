@@ -0,0 +1,84 @@
+package events;
+
+import java.io.PrintStream;
+import enums.Action;
+import staticClasses.Helpers;
+
+public final class ConsoleRenderer implements EventSink {
+  private static final String[] STREETS = { "Preflop", null, null, "Flop", "Turn", "River" };
+  private static final String OLD_SYMBOL = "_";
+  private static final String NEW_SYMBOL = " ";
+  private final StringBuilder buffer = new StringBuilder();
+  private final PrintStream out;
+
+  public ConsoleRenderer(final PrintStream out) {
+    this.out = out;
+  }
+
+  @Override
+  public void onEvent(final GameEvent event) {
+    switch (event.getType()) {
+      case DEAL:
+        this.buffer.append(event.getNickname()).append(", your hand is ");
+        this.appendHand(event);
+        break;
+      case STREET:
+        this.buffer.append(STREETS[event.getCardsCount()]).append(": ");
+        for (int i = 0; i < event.getCardsCount(); i++) {
+          this.buffer.append(event.getCard(i)).append(' ');
+        }
+        this.buffer.append('\n');
+        break;
+      case SKIP:
+        final String skipStr = event.getBalance() > 0 ? " folded"
+            : event.isActive() ? " went all in" : " sit out";
+        this.buffer.append(event.getNickname()).append(skipStr).append('\n');
+        break;
+      case ACTION:
+        this.appendAction(event);
+        break;
+      case POT:
+        this.buffer.append("Pot is ").append(event.getAmount()).append('\n');
+        break;
+      case SHOWDOWN:
+        this.buffer.append(event.getNickname()).append(" has got ");
+        this.appendHand(event);
+        break;
+      case PAYOUT:
+        this.buffer.append(event.getNickname()).append(" won ").append(event.getAmount())
+            .append(", new balance: ").append(event.getBalance()).append('\n');
+        break;
+    }
+  }
+
+  @Override
+  public void onBatchEnd() {
+    if (this.buffer.length() == 0) return;
+    this.out.print(this.buffer);
+    this.out.flush();
+    this.buffer.setLength(0);
+  }
+
+  private void appendHand(final GameEvent event) {
+    final String combinationStr = Helpers.replaceSymbol(event.getCombination().toString(),
+        OLD_SYMBOL, NEW_SYMBOL);
+    this.buffer.append(event.getCard(0)).append(" and ").append(event.getCard(1))
+        .append('(').append(combinationStr.toLowerCase()).append(")\n");
+  }
+
+  private void appendAction(final GameEvent event) {
+    final Action action = event.getAction();
+    this.buffer.append(event.getNickname());
+    if (action == Action.FOLD) {
+      this.buffer.append(" folded");
+    } else if (action == Action.CALL) {
+      this.buffer.append(" called ").append(event.getAmount());
+    } else if (action == Action.CHECK) {
+      this.buffer.append(event.isBigBlind() ? " (big blind) " : " ").append("checked");
+    } else {
+      final String allInStr = event.getBalance() == 0 ? " (all in) " : "";
+      this.buffer.append(" raised to ").append(event.getAmount()).append(allInStr);
+    }
+    this.buffer.append(", balance: ").append(event.getBalance()).append('\n');
+  }
+}
@@ -0,0 +1,171 @@
+package events;
+
+import java.lang.invoke.VarHandle;
+import java.util.*;
+import java.util.concurrent.locks.LockSupport;
+import enums.EventType;
+
+public final class EventBus implements AutoCloseable {
+  public static final int DEFAULT_CAPACITY = 1024;
+  private static final long PARK_NANOS = 1_000_000;
+  private static final long WAIT_NANOS = 50_000;
+  private final GameEvent[] ring;
+  private final int mask;
+  private final List<Subscription> pending = new ArrayList<>();
+  private Subscription[] subscriptions = new Subscription[0];
+  private volatile long cursor = -1;
+  private volatile boolean isRunning;
+  private long claimed = -1;
+
+  public EventBus() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  public EventBus(final int capacity) {
+    if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+      throw new IllegalArgumentException("Capacity must be a power of two: " + capacity);
+    }
+    this.ring = new GameEvent[capacity];
+    for (int i = 0; i < capacity; i++) this.ring[i] = new GameEvent();
+    this.mask = capacity - 1;
+  }
+
+  public void subscribe(final EventSink sink, final boolean isLossless) {
+    if (this.isRunning) throw new IllegalStateException("Event bus is already started");
+    this.pending.add(new Subscription(sink, isLossless));
+  }
+
+  public void start() {
+    if (this.isRunning) return;
+    this.subscriptions = this.pending.toArray(new Subscription[0]);
+    this.isRunning = true;
+    for (final Subscription subscription : this.subscriptions) {
+      subscription.thread.start();
+    }
+  }
+
+  public GameEvent claim(final EventType type) {
+    final long sequence = this.claimed + 1;
+    final long wrapPoint = sequence - this.ring.length;
+    for (final Subscription subscription : this.subscriptions) {
+      if (subscription.isLossless) subscription.awaitConsumed(wrapPoint);
+    }
+    this.claimed = sequence;
+    final GameEvent event = this.ring[(int) sequence & this.mask];
+    event.begin(type);
+    return event;
+  }
+
+  public void publish() {
+    this.ring[(int) this.claimed & this.mask].commit(this.claimed);
+    this.cursor = this.claimed;
+    for (final Subscription subscription : this.subscriptions) {
+      if (subscription.isSleeping) LockSupport.unpark(subscription.thread);
+    }
+  }
+
+  public void flush() {
+    final long published = this.cursor;
+    for (final Subscription subscription : this.subscriptions) {
+      if (subscription.isLossless) subscription.awaitConsumed(published);
+    }
+  }
+
+  public long getDropped() {
+    long dropped = 0;
+    for (final Subscription subscription : this.subscriptions) {
+      dropped += subscription.dropped;
+    }
+    return dropped;
+  }
+
+  @Override
+  public void close() {
+    this.flush();
+    this.isRunning = false;
+    try {
+      for (final Subscription subscription : this.subscriptions) {
+        LockSupport.unpark(subscription.thread);
+        subscription.thread.join();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private final class Subscription implements Runnable {
+    private final EventSink sink;
+    private final boolean isLossless;
+    private final GameEvent copy = new GameEvent();
+    private final Thread thread;
+    private volatile long consumed = -1;
+    private volatile boolean isSleeping;
+    private volatile long dropped;
+
+    private Subscription(final EventSink sink, final boolean isLossless) {
+      this.sink = sink;
+      this.isLossless = isLossless;
+      this.thread = new Thread(this, "events-" + sink.getClass().getSimpleName());
+      this.thread.setDaemon(true);
+    }
+
+    private void awaitConsumed(final long sequence) {
+      while (this.consumed < sequence) {
+        LockSupport.unpark(this.thread);
+        LockSupport.parkNanos(WAIT_NANOS);
+      }
+    }
+
+    @Override
+    public void run() {
+      long next = 0;
+      while (isRunning || next <= cursor) {
+        final long available = cursor;
+        if (next > available) {
+          this.idle(next);
+          continue;
+        }
+        while (next <= available) {
+          final GameEvent event = this.isLossless ? ring[(int) next & mask]
+              : this.read(next);
+          if (event == null) {
+            final long oldest = Math.max(next + 1, cursor - mask);
+            this.dropped += oldest - next;
+            next = oldest;
+            continue;
+          }
+          this.deliver(event);
+          next++;
+        }
+        try {
+          this.sink.onBatchEnd();
+        } catch (RuntimeException e) {
+          System.err.println(e.getMessage());
+        }
+        this.consumed = next - 1;
+      }
+    }
+
+    private GameEvent read(final long sequence) {
+      final GameEvent slot = ring[(int) sequence & mask];
+      if (slot.getSequence() != sequence) return null;
+      this.copy.copyFrom(slot);
+      VarHandle.loadLoadFence();
+      return slot.getSequence() == sequence ? this.copy : null;
+    }
+
+    private void deliver(final GameEvent event) {
+      try {
+        this.sink.onEvent(event);
+      } catch (RuntimeException e) {
+        System.err.println(e.getMessage());
+      }
+    }
+
+    private void idle(final long next) {
+      this.isSleeping = true;
+      if (isRunning && next > cursor) LockSupport.parkNanos(PARK_NANOS);
+      this.isSleeping = false;
+    }
+  }
+}
@@ -0,0 +1,11 @@
+package events;
+
+public interface EventSink {
+  EventSink NONE = event -> {
+  };
+
+  void onEvent(final GameEvent event);
+
+  default void onBatchEnd() {
+  }
+}
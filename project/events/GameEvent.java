@@ -0,0 +1,133 @@
+package events;
+
+import java.lang.invoke.VarHandle;
+import enums.*;
+import src.*;
+
+public final class GameEvent {
+  private static final int CARD_BITS = Byte.SIZE;
+  private static final int CARD_MASK = (1 << CARD_BITS) - 1;
+  private volatile long sequence = -1;
+  private EventType type;
+  private int seat;
+  private String nickname;
+  private int balance;
+  private boolean isActive;
+  private boolean isBigBlind;
+  private Action action;
+  private int amount;
+  private long cards;
+  private int cardsCount;
+  private int strength;
+
+  void begin(final EventType type) {
+    this.sequence = -1;
+    VarHandle.storeStoreFence();
+    this.type = type;
+    this.seat = -1;
+    this.nickname = null;
+    this.balance = 0;
+    this.isActive = false;
+    this.isBigBlind = false;
+    this.action = null;
+    this.amount = 0;
+    this.cards = 0L;
+    this.cardsCount = 0;
+    this.strength = 0;
+  }
+
+  void commit(final long sequence) {
+    this.sequence = sequence;
+  }
+
+  long getSequence() {
+    return this.sequence;
+  }
+
+  void copyFrom(final GameEvent event) {
+    this.type = event.type;
+    this.seat = event.seat;
+    this.nickname = event.nickname;
+    this.balance = event.balance;
+    this.isActive = event.isActive;
+    this.isBigBlind = event.isBigBlind;
+    this.action = event.action;
+    this.amount = event.amount;
+    this.cards = event.cards;
+    this.cardsCount = event.cardsCount;
+    this.strength = event.strength;
+  }
+
+  public void setPlayer(final int seat, final Player player) {
+    this.seat = seat;
+    this.nickname = player.getNickname();
+    this.balance = player.getBalance();
+    this.isActive = player.isActive();
+    this.isBigBlind = player.isBigBlind();
+  }
+
+  public void setAction(final Action action, final int amount) {
+    this.action = action;
+    this.amount = amount;
+  }
+
+  public void setAmount(final int amount) {
+    this.amount = amount;
+  }
+
+  public void addCard(final Card card) {
+    this.cards |= (long) card.getIndex() << (this.cardsCount++ * CARD_BITS);
+  }
+
+  public void setStrength(final int strength) {
+    this.strength = strength;
+  }
+
+  public EventType getType() {
+    return this.type;
+  }
+
+  public int getSeat() {
+    return this.seat;
+  }
+
+  public String getNickname() {
+    return this.nickname;
+  }
+
+  public int getBalance() {
+    return this.balance;
+  }
+
+  public boolean isActive() {
+    return this.isActive;
+  }
+
+  public boolean isBigBlind() {
+    return this.isBigBlind;
+  }
+
+  public Action getAction() {
+    return this.action;
+  }
+
+  public int getAmount() {
+    return this.amount;
+  }
+
+  public int getCardsCount() {
+    return this.cardsCount;
+  }
+
+  public Card getCard(final int idx) {
+    return Card.of((int) (this.cards >>> (idx * CARD_BITS)) & CARD_MASK);
+  }
+
+  public int getStrength() {
+    return this.strength;
+  }
+
+  public Combination getCombination() {
+    return Combination.of(this.strength);
+  }
+}
@@ -0,0 +1,96 @@
+package history;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.util.*;
+
+public final class HandHistoryLog implements Closeable {
+  public static final int DEFAULT_SEGMENT_SIZE = 64 << 20;
+  static final int MAGIC = 0x48484c47;
+  static final int VERSION = 2;
+  static final int HEADER_SIZE = 16;
+  static final int RECORD_HEADER_SIZE = 2 * Integer.BYTES;
+  static final String SEGMENT_PREFIX = "hands-";
+  static final String SEGMENT_SUFFIX = ".log";
+  private final Path directory;
+  private final int segmentSize;
+  private int segmentIdx;
+  private MappedByteBuffer segment;
+  private long handsWritten;
+
+  public HandHistoryLog(final Path directory) throws IOException {
+    this(directory, DEFAULT_SEGMENT_SIZE);
+  }
+
+  public HandHistoryLog(final Path directory, final int segmentSize) throws IOException {
+    this.directory = Files.createDirectories(directory);
+    this.segmentSize = segmentSize;
+    for (final Path segment : segments(directory)) {
+      this.segmentIdx = Math.max(this.segmentIdx, segmentIndex(segment) + 1);
+    }
+    this.roll();
+  }
+
+  public synchronized void append(final ByteBuffer record) {
+    if (this.segment == null) throw new IllegalStateException("Hand history log is closed");
+    final int END_MARKER_SIZE = Integer.BYTES;
+    final int required = record.remaining() + END_MARKER_SIZE;
+    if (required > this.segmentSize - HEADER_SIZE) {
+      throw new IllegalArgumentException("Record of " + record.remaining()
+          + " bytes does not fit a segment");
+    }
+    if (this.segment.remaining() < required) this.rollUnchecked();
+    this.segment.put(record);
+    this.handsWritten++;
+  }
+
+  public synchronized long getHandsWritten() {
+    return this.handsWritten;
+  }
+
+  @Override
+  public synchronized void close() {
+    if (this.segment == null) return;
+    this.segment.force();
+    this.segment = null;
+  }
+
+  private void rollUnchecked() {
+    try {
+      this.roll();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private void roll() throws IOException {
+    if (this.segment != null) this.segment.force();
+    final Path path = this.directory.resolve(String.format("%s%06d%s", SEGMENT_PREFIX,
+        this.segmentIdx++, SEGMENT_SUFFIX));
+    try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW,
+        StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      this.segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, this.segmentSize);
+    }
+    this.segment.order(ByteOrder.LITTLE_ENDIAN);
+    this.segment.putInt(MAGIC).putInt(VERSION).putLong(0L);
+  }
+
+  static List<Path> segments(final Path directory) throws IOException {
+    final List<Path> segments = new ArrayList<>();
+    if (!Files.isDirectory(directory)) return segments;
+    try (final DirectoryStream<Path> stream = Files.newDirectoryStream(directory,
+        SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+      for (final Path path : stream) segments.add(path);
+    }
+    Collections.sort(segments);
+    return segments;
+  }
+
+  private static int segmentIndex(final Path segment) {
+    final String name = segment.getFileName().toString();
+    return Integer.parseInt(name.substring(SEGMENT_PREFIX.length(),
+        name.length() - SEGMENT_SUFFIX.length()));
+  }
+}
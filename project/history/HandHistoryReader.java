@@ -0,0 +1,47 @@
+package history;
+
+import java.io.IOException;
+import java.nio.*;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.util.function.Consumer;
+import java.util.zip.CRC32C;
+
+public final class HandHistoryReader {
+
+  public static long read(final Path directory, final Consumer<HandRecord> consumer)
+      throws IOException {
+    final HandRecord record = new HandRecord();
+    final CRC32C crc = new CRC32C();
+    long hands = 0;
+    for (final Path path : HandHistoryLog.segments(directory)) {
+      final MappedByteBuffer segment;
+      try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+        segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      }
+      segment.order(ByteOrder.LITTLE_ENDIAN);
+      if (segment.getInt() != HandHistoryLog.MAGIC
+          || segment.getInt() != HandHistoryLog.VERSION) {
+        throw new IOException("Not a hand history segment: " + path);
+      }
+      segment.position(HandHistoryLog.HEADER_SIZE);
+      while (segment.remaining() >= HandHistoryLog.RECORD_HEADER_SIZE) {
+        final int length = segment.getInt();
+        final int checksum = segment.getInt();
+        if (length == 0) break;
+        if (length < 0 || length > segment.remaining()) return hands;
+        final int start = segment.position();
+        final int end = start + length;
+        crc.reset();
+        crc.update(segment.limit(end));
+        segment.limit(segment.capacity()).position(start);
+        if ((int) crc.getValue() != checksum) return hands;
+        record.decode(segment);
+        segment.position(end);
+        consumer.accept(record);
+        hands++;
+      }
+    }
+    return hands;
+  }
+}
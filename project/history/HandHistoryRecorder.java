@@ -0,0 +1,73 @@
+package history;
+
+import java.nio.*;
+import java.util.zip.CRC32C;
+import enums.Action;
+import src.*;
+
+public final class HandHistoryRecorder implements HandListener {
+  private static final int BUFFER_SIZE = 1 << 16;
+  private final HandHistoryLog log;
+  private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE)
+      .order(ByteOrder.LITTLE_ENDIAN);
+  private final CRC32C crc = new CRC32C();
+  private int eventsCountPosition;
+  private int eventsCount;
+
+  public HandHistoryRecorder(final HandHistoryLog log) {
+    this.log = log;
+  }
+
+  @Override
+  public void onHandStart(final long handSeed, final Player[] players) {
+    this.buffer.clear();
+    this.buffer.putInt(0).putInt(0).putLong(handSeed).put((byte) players.length);
+    for (final Player player : players) {
+      final boolean hasCards = player.getCard(0) != null;
+      this.buffer.putInt(player.getBalance());
+      this.buffer.put((byte) (hasCards ? player.getCard(0).getIndex() : HandRecord.NO_CARD));
+      this.buffer.put((byte) (hasCards ? player.getCard(1).getIndex() : HandRecord.NO_CARD));
+    }
+    this.eventsCountPosition = this.buffer.position();
+    this.eventsCount = 0;
+    this.buffer.putShort((short) 0);
+  }
+
+  @Override
+  public void onBlind(final int seat, final int amount, final boolean isBigBlind) {
+    this.putEvent(isBigBlind ? HandRecord.BIG_BLIND : HandRecord.SMALL_BLIND, seat, amount);
+  }
+
+  @Override
+  public void onStreet(final Card[] tableCards, final int tableCardsCount,
+      final int newCardsCount) {
+    int cards = 0;
+    for (int i = 0; i < newCardsCount; i++) {
+      cards |= tableCards[tableCardsCount - newCardsCount + i].getIndex() << (i * Byte.SIZE);
+    }
+    this.putEvent(HandRecord.STREET, newCardsCount, cards);
+  }
+
+  @Override
+  public void onAction(final int seat, final Action action, final int amount) {
+    this.putEvent((byte) action.ordinal(), seat, amount);
+  }
+
+  @Override
+  public void onHandEnd(final Player[] players, final int pot) {
+    this.buffer.putInt(pot);
+    for (final Player player : players) this.buffer.putInt(player.getBalanceDelta());
+    this.buffer.putShort(this.eventsCountPosition, (short) this.eventsCount);
+    final int length = this.buffer.position() - HandHistoryLog.RECORD_HEADER_SIZE;
+    this.crc.reset();
+    this.crc.update(this.buffer.array(), HandHistoryLog.RECORD_HEADER_SIZE, length);
+    this.buffer.putInt(0, length).putInt(Integer.BYTES, (int) this.crc.getValue());
+    this.buffer.flip();
+    this.log.append(this.buffer);
+  }
+
+  private void putEvent(final byte type, final int seat, final int amount) {
+    this.buffer.put(type).put((byte) seat).putInt(amount);
+    this.eventsCount++;
+  }
+}
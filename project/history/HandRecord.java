@@ -0,0 +1,97 @@
+package history;
+
+import java.nio.ByteBuffer;
+import enums.Action;
+import src.Card;
+
+public final class HandRecord {
+  public static final byte SMALL_BLIND = 4;
+  public static final byte BIG_BLIND = 5;
+  public static final byte STREET = 6;
+  public static final int NO_CARD = -1;
+  private static final int MAX_SEATS = 16;
+  private static final Action[] ACTIONS = Action.values();
+  private long handSeed;
+  private int seats;
+  private final int[] stacks = new int[MAX_SEATS];
+  private final byte[] cards = new byte[MAX_SEATS * 2];
+  private final int[] deltas = new int[MAX_SEATS];
+  private int eventsCount;
+  private byte[] eventTypes = new byte[64];
+  private byte[] eventSeats = new byte[64];
+  private int[] eventAmounts = new int[64];
+  private int pot;
+
+  void decode(final ByteBuffer buffer) {
+    this.handSeed = buffer.getLong();
+    this.seats = buffer.get();
+    for (int i = 0; i < this.seats; i++) {
+      this.stacks[i] = buffer.getInt();
+      this.cards[i * 2] = buffer.get();
+      this.cards[i * 2 + 1] = buffer.get();
+    }
+    this.eventsCount = buffer.getShort() & 0xFFFF;
+    if (this.eventsCount > this.eventTypes.length) {
+      this.eventTypes = new byte[this.eventsCount];
+      this.eventSeats = new byte[this.eventsCount];
+      this.eventAmounts = new int[this.eventsCount];
+    }
+    for (int i = 0; i < this.eventsCount; i++) {
+      this.eventTypes[i] = buffer.get();
+      this.eventSeats[i] = buffer.get();
+      this.eventAmounts[i] = buffer.getInt();
+    }
+    this.pot = buffer.getInt();
+    for (int i = 0; i < this.seats; i++) this.deltas[i] = buffer.getInt();
+  }
+
+  public long getHandSeed() {
+    return this.handSeed;
+  }
+
+  public int getSeats() {
+    return this.seats;
+  }
+
+  public int getStack(final int seat) {
+    return this.stacks[seat];
+  }
+
+  public Card getCard(final int seat, final int idx) {
+    final int card = this.cards[seat * 2 + idx];
+    return card == NO_CARD ? null : Card.of(card);
+  }
+
+  public int getEventsCount() {
+    return this.eventsCount;
+  }
+
+  public int getEventType(final int idx) {
+    return this.eventTypes[idx];
+  }
+
+  public int getEventSeat(final int idx) {
+    return this.eventSeats[idx];
+  }
+
+  public int getEventAmount(final int idx) {
+    return this.eventAmounts[idx];
+  }
+
+  public Action getAction(final int idx) {
+    final int type = this.eventTypes[idx];
+    return type < ACTIONS.length ? ACTIONS[type] : null;
+  }
+
+  public int getStreetCard(final int idx, final int cardIdx) {
+    return (this.eventAmounts[idx] >>> (cardIdx * Byte.SIZE)) & 0xFF;
+  }
+
+  public int getPot() {
+    return this.pot;
+  }
+
+  public int getDelta(final int seat) {
+    return this.deltas[seat];
+  }
+}
@@ -0,0 +1,112 @@
+package benchmarks;
+
+import java.util.*;
+import enums.*;
+import src.*;
+import staticClasses.HandEvaluator;
+
+public final class Fixtures {
+  public static final int SIZE = 4096;
+  public static final int HAND_CARDS = 7;
+  private static final long SEED = 20231018L;
+
+  public static long[] randomHands() {
+    final SplittableRandom random = new SplittableRandom(SEED);
+    final long[] hands = new long[SIZE];
+    for (int i = 0; i < SIZE; i++) hands[i] = fill(0L, HAND_CARDS, random);
+    return hands;
+  }
+
+  public static long[] skewedHands(final Combination combination) {
+    final SplittableRandom random = new SplittableRandom(SEED + combination.ordinal());
+    final long[] hands = new long[SIZE];
+    int size = 0;
+    while (size < SIZE) {
+      final long hand = fill(core(combination, random), HAND_CARDS, random);
+      if (Combination.of(HandEvaluator.evaluate(hand)) == combination) {
+        hands[size++] = hand;
+      }
+    }
+    return hands;
+  }
+
+  public static int[][] allInStacks(final int players) {
+    final SplittableRandom random = new SplittableRandom(SEED);
+    final int[][] stacks = new int[SIZE][players];
+    for (int i = 0; i < SIZE; i++) {
+      for (int p = 0; p < players; p++) {
+        stacks[i][p] = random.nextInt(GameSession.MIN_BALANCE,
+            GameSession.MAX_BALANCE + 1) / GameSession.SMALL_BLIND_SIZE
+            * GameSession.SMALL_BLIND_SIZE;
+      }
+    }
+    return stacks;
+  }
+
+  private static long core(final Combination combination,
+      final SplittableRandom random) {
+    final int suit = random.nextInt(HandEvaluator.SUITS_COUNT);
+    final int rank = random.nextInt(HandEvaluator.RANKS_COUNT);
+    final int otherRank = (rank + 1 + random.nextInt(HandEvaluator.RANKS_COUNT - 1))
+        % HandEvaluator.RANKS_COUNT;
+    switch (combination) {
+      case ROYAL_FLUSH:
+        return straight(suit, Rank.ACE.ordinal(), true, random);
+      case STRAIGHT_FLUSH:
+        return straight(suit, Rank.FIVE.ordinal()
+            + random.nextInt(Rank.KING.ordinal() - Rank.FIVE.ordinal() + 1), true, random);
+      case FOUR_OF_A_KIND:
+        return sameRank(rank, 4, random);
+      case FULL_HOUSE:
+        return sameRank(rank, 3, random) | sameRank(otherRank, 2, random);
+      case FLUSH:
+        long flush = 0L;
+        while (Long.bitCount(flush) < 5) {
+          flush |= card(suit, random.nextInt(HandEvaluator.RANKS_COUNT));
+        }
+        return flush;
+      case STRAIGHT:
+        return straight(suit, Rank.FIVE.ordinal()
+            + random.nextInt(Rank.ACE.ordinal() - Rank.FIVE.ordinal() + 1), false, random);
+      case THREE_OF_A_KIND:
+        return sameRank(rank, 3, random);
+      case TWO_PAIRS:
+        return sameRank(rank, 2, random) | sameRank(otherRank, 2, random);
+      case PAIR:
+        return sameRank(rank, 2, random);
+      default:
+        return 0L;
+    }
+  }
+
+  private static long straight(final int suit, final int topRank,
+      final boolean isSuited, final SplittableRandom random) {
+    long mask = 0L;
+    for (int i = 0; i < 5; i++) {
+      final int rank = (topRank - i + HandEvaluator.RANKS_COUNT) % HandEvaluator.RANKS_COUNT;
+      final int cardSuit = isSuited ? suit : random.nextInt(HandEvaluator.SUITS_COUNT);
+      mask |= card(cardSuit, rank);
+    }
+    return mask;
+  }
+
+  private static long sameRank(final int rank, final int count,
+      final SplittableRandom random) {
+    long mask = 0L;
+    while (Long.bitCount(mask) < count) {
+      mask |= card(random.nextInt(HandEvaluator.SUITS_COUNT), rank);
+    }
+    return mask;
+  }
+
+  private static long fill(final long mask, final int count,
+      final SplittableRandom random) {
+    long hand = mask;
+    while (Long.bitCount(hand) < count) hand |= 1L << random.nextInt(Card.DECK_SIZE);
+    return hand;
+  }
+
+  private static long card(final int suit, final int rank) {
+    return 1L << (suit * HandEvaluator.RANKS_COUNT + rank);
+  }
+}
@@ -0,0 +1,275 @@
+package benchmarks;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import enums.*;
+import src.*;
+import staticClasses.*;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 5, time = 500, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class HandBenchmarks {
+  private static final int MASK = Fixtures.SIZE - 1;
+  private static final int HAND_CARDS = 2;
+
+  @State(Scope.Thread)
+  public static class Hands {
+    @Param({"RANDOM", "HIGH_CARD", "PAIR", "TWO_PAIRS", "THREE_OF_A_KIND", "STRAIGHT",
+        "FLUSH", "FULL_HOUSE", "FOUR_OF_A_KIND", "STRAIGHT_FLUSH", "ROYAL_FLUSH"})
+    public String combination;
+    private long[] hands;
+    private int index;
+
+    @Setup
+    public void setUp() {
+      this.hands = this.combination.equals("RANDOM") ? Fixtures.randomHands()
+          : Fixtures.skewedHands(Combination.valueOf(this.combination));
+    }
+
+    private long next() {
+      return this.hands[this.index++ & MASK];
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class Range {
+    private final SplittableRandom random = new SplittableRandom(Fixtures.SIZE);
+    private final long[] hands = HandRange.all().combos(0L);
+    private final int[] strengths = new int[this.hands.length];
+    private final BatchEvaluator evaluator = new BatchEvaluator();
+  }
+
+  @State(Scope.Thread)
+  public static class Batch {
+    private final long[] hands = Fixtures.randomHands();
+    private final int[] strengths = new int[this.hands.length];
+    private final BatchEvaluator evaluator = new BatchEvaluator();
+  }
+
+  @State(Scope.Thread)
+  public static class Cache {
+    private final StrengthCache cache = new StrengthCache(StrengthCache.MIN_ENTRIES);
+    private final SplittableRandom random = new SplittableRandom(Fixtures.SIZE);
+    private final long[] hands = Fixtures.randomHands();
+    private final long hand = 1L << 12 | 1L << 25;
+    private final long table = 1L << 3 | 1L << 20 | 1L << 44;
+    private int index;
+  }
+
+  @State(Scope.Thread)
+  public static class Dealing {
+    private final List<Card> cards = Cards.getAll();
+    private final Deck deck = new Deck();
+    private final RandomSource random = new RandomSource(Fixtures.SIZE);
+  }
+
+  @State(Scope.Thread)
+  public static class Streets {
+    private static final int FLOP_CARDS = 3;
+    private final long[] tables = new long[Fixtures.SIZE];
+    private Player[] players;
+    private int index;
+
+    @Setup
+    public void setUp() {
+      final SplittableRandom random = new SplittableRandom(GameSession.TABLE_CARDS);
+      this.players = seat(GameSession.PLAYERS_SEATED, holeCards(random,
+          GameSession.PLAYERS_SEATED));
+      long holeMask = 0L;
+      for (final Player player : this.players) holeMask |= player.getHandMask();
+      for (int i = 0; i < Fixtures.SIZE; i++) {
+        this.tables[i] = drawCards(random, holeMask, GameSession.TABLE_CARDS);
+      }
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class Showdown {
+    @Param({"2", "4", "6"})
+    public int playersCount;
+    private int[][] stacks;
+    private final int[][] strengths = new int[Fixtures.SIZE][];
+    private Player[] players;
+    private WinnersHandler winnersHandler;
+    private int index;
+
+    @Setup
+    public void setUp() {
+      this.stacks = Fixtures.allInStacks(this.playersCount);
+      this.players = seat(this.playersCount, holeCards(
+          new SplittableRandom(this.playersCount), this.playersCount));
+      this.winnersHandler = new WinnersHandler(this.players, Output.SILENT);
+      final long[] hands = Fixtures.randomHands();
+      for (int i = 0; i < Fixtures.SIZE; i++) {
+        this.strengths[i] = new int[this.playersCount];
+        for (int p = 0; p < this.playersCount; p++) {
+          final long hand = hands[(i + p * Fixtures.HAND_CARDS) & MASK];
+          this.strengths[i][p] = HandEvaluator.evaluate(hand);
+        }
+      }
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class Session {
+    @Param({"6", "10"})
+    public int seats;
+    private SimulationEngine engine;
+
+    @Setup
+    public void setUp() {
+      final Strategy[] strategies = new Strategy[this.seats];
+      for (int i = 0; i < strategies.length; i++) strategies[i] = new BotStrategy();
+      this.engine = new SimulationEngine(strategies, Fixtures.SIZE);
+    }
+  }
+
+  @Benchmark
+  public int evaluate(final Hands state) {
+    return HandEvaluator.evaluate(state.next());
+  }
+
+  @Benchmark
+  public void evaluateBatchRange(final Range state, final Blackhole blackhole) {
+    state.evaluator.evaluate(state.hands, drawCards(state.random, 0L,
+        GameSession.TABLE_CARDS), state.strengths);
+    blackhole.consume(state.strengths);
+  }
+
+  @Benchmark
+  public void evaluateScalarRange(final Range state, final Blackhole blackhole) {
+    final long board = drawCards(state.random, 0L, GameSession.TABLE_CARDS);
+    for (int i = 0; i < state.hands.length; i++) {
+      state.strengths[i] = (state.hands[i] & board) != 0 ? BatchEvaluator.BLOCKED
+          : HandEvaluator.evaluate(state.hands[i] | board);
+    }
+    blackhole.consume(state.strengths);
+  }
+
+  @Benchmark
+  public void evaluateBatchHands(final Batch state, final Blackhole blackhole) {
+    state.evaluator.evaluate(state.hands, state.hands.length, state.strengths);
+    blackhole.consume(state.strengths);
+  }
+
+  @Benchmark
+  public void evaluateScalarHands(final Batch state, final Blackhole blackhole) {
+    for (int i = 0; i < state.hands.length; i++) {
+      state.strengths[i] = HandEvaluator.evaluate(state.hands[i]);
+    }
+    blackhole.consume(state.strengths);
+  }
+
+  @Benchmark
+  public int cacheEvaluateRandom(final Cache state) {
+    return state.cache.get(state.hands[state.index++ & MASK]);
+  }
+
+  @Benchmark
+  public void cacheEquityFlop(final Cache state, final Blackhole blackhole) {
+    final long used = state.hand | state.table;
+    final long board = state.table | drawCards(state.random, used, 2);
+    blackhole.consume(state.cache.get(state.hand | board));
+    blackhole.consume(state.cache.get(drawCards(state.random, used | board,
+        HAND_CARDS) | board));
+  }
+
+  @Benchmark
+  public void cardsShuffle(final Dealing state, final Blackhole blackhole) {
+    Cards.shuffle(state.cards, state.random);
+    blackhole.consume(state.cards.get(0));
+  }
+
+  @Benchmark
+  public long deckDeal(final Dealing state) {
+    final int CARDS_TO_DEAL = GameSession.PLAYERS_SEATED * HAND_CARDS
+        + GameSession.TABLE_CARDS;
+    state.deck.reset();
+    long mask = 0L;
+    for (int i = 0; i < CARDS_TO_DEAL; i++) {
+      mask |= state.deck.draw(state.random).getMask();
+    }
+    return mask;
+  }
+
+  @Benchmark
+  public void playersStreetStrength(final Streets state, final Blackhole blackhole) {
+    long table = state.tables[state.index++ & MASK];
+    for (final Player player : state.players) {
+      player.setHand(player.getCard(0), player.getCard(1));
+    }
+    for (int street = 0; street < GameSession.ROUNDS_LENGTH; street++) {
+      final int count = street == 0 ? Streets.FLOP_CARDS : 1;
+      long streetCards = 0L;
+      for (int i = 0; i < count; i++) {
+        streetCards |= Long.lowestOneBit(table);
+        table &= table - 1;
+      }
+      for (final Player player : state.players) {
+        player.addTableCards(streetCards);
+        blackhole.consume(player.getStrength());
+      }
+    }
+  }
+
+  @Benchmark
+  public void winnersHandle(final Showdown state, final Blackhole blackhole) {
+    final int idx = state.index++ & MASK;
+    final int[] stacks = state.stacks[idx];
+    final int[] strengths = state.strengths[idx];
+    int pot = 0;
+    for (int p = 0; p < state.playersCount; p++) {
+      final Player player = state.players[p];
+      player.changeBalance(stacks[p] - player.getBalance());
+      player.resetGameData();
+      pot += player.putMoneyInPot(stacks[p], Action.CALL);
+      player.newRound();
+      player.setStrength(strengths[p]);
+    }
+    state.winnersHandler.setPotSize(pot);
+    state.winnersHandler.handle();
+    blackhole.consume(state.players[0].getBalance());
+  }
+
+  @Benchmark
+  public long sessionHand(final Session state) {
+    state.engine.playHand();
+    return state.engine.getActionsPlayed();
+  }
+
+  private static Player[] seat(final int count, final long[] hands) {
+    final Player[] players = new Player[count];
+    for (int i = 0; i < count; i++) {
+      players[i] = new Player(GameSession.MAX_BALANCE, "Player " + (i + 1));
+      players[i].setHand(Card.of(Long.numberOfTrailingZeros(hands[i])),
+          Card.of(Long.SIZE - 1 - Long.numberOfLeadingZeros(hands[i])));
+    }
+    return players;
+  }
+
+  private static long drawCards(final SplittableRandom random, final long used,
+      final int count) {
+    long cards = 0L;
+    while (Long.bitCount(cards) < count) {
+      final long card = 1L << random.nextInt(HandEvaluator.RANKS_COUNT
+          * HandEvaluator.SUITS_COUNT);
+      if ((used & card) == 0) cards |= card;
+    }
+    return cards;
+  }
+
+  private static long[] holeCards(final SplittableRandom random, final int count) {
+    final long[] hands = new long[count];
+    long used = 0L;
+    for (int i = 0; i < count; i++) {
+      hands[i] = drawCards(random, used, HAND_CARDS);
+      used |= hands[i];
+    }
+    return hands;
+  }
+}
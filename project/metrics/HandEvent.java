@@ -0,0 +1,23 @@
+package metrics;
+
+import jdk.jfr.*;
+
+@Name("poker.Hand")
+@Label("Hand")
+@Category("Poker")
+@StackTrace(false)
+final class HandEvent extends Event {
+  @Label("Hand Seed")
+  long handSeed;
+
+  @Label("Actions")
+  long actions;
+
+  @Label("Latency")
+  @Timespan(Timespan.NANOSECONDS)
+  long latency;
+
+  @Label("Allocated")
+  @DataAmount
+  long allocated;
+}
@@ -0,0 +1,68 @@
+package metrics;
+
+import java.util.concurrent.atomic.*;
+
+public final class LatencyHistogram {
+  private static final int SUB_BUCKET_BITS = 7;
+  private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+  private static final int HALF_SUB_BUCKETS = SUB_BUCKETS >> 1;
+  private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * HALF_SUB_BUCKETS
+      + SUB_BUCKETS;
+  private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+  private final LongAdder count = new LongAdder();
+  private final LongAdder sum = new LongAdder();
+  private final AtomicLong max = new AtomicLong();
+
+  public void record(final long value) {
+    final long clamped = Math.max(0L, value);
+    this.counts.getAndIncrement(index(clamped));
+    this.count.increment();
+    this.sum.add(clamped);
+    if (clamped > this.max.get()) this.max.accumulateAndGet(clamped, Math::max);
+  }
+
+  public long getCount() {
+    return this.count.sum();
+  }
+
+  public double getMean() {
+    final long count = this.getCount();
+    return count == 0 ? 0 : (double) this.sum.sum() / count;
+  }
+
+  public long getMax() {
+    return this.max.get();
+  }
+
+  public long getPercentile(final double percentile) {
+    final long total = this.getCount();
+    if (total == 0) return 0;
+    final long rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+    long seen = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      seen += this.counts.get(i);
+      if (seen >= rank) return Math.min(highestEquivalentValue(i), this.getMax());
+    }
+    return this.getMax();
+  }
+
+  public void reset() {
+    for (int i = 0; i < BUCKETS; i++) this.counts.set(i, 0);
+    this.count.reset();
+    this.sum.reset();
+    this.max.set(0);
+  }
+
+  static int index(final long value) {
+    if (value < SUB_BUCKETS) return (int) value;
+    final int shift = Long.SIZE - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+    return shift * HALF_SUB_BUCKETS + (int) (value >>> shift);
+  }
+
+  static long highestEquivalentValue(final int index) {
+    if (index < SUB_BUCKETS) return index;
+    final int shift = index / HALF_SUB_BUCKETS - 1;
+    final long subBucket = index - shift * HALF_SUB_BUCKETS;
+    return ((subBucket + 1) << shift) - 1;
+  }
+}
@@ -0,0 +1,176 @@
+package metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.*;
+import enums.Phase;
+
+public final class Metrics {
+  public static final String ENABLED_PROPERTY = "metrics.enabled";
+  public static final String OBJECT_NAME = "poker:type=Metrics";
+  public static final boolean ENABLED = Boolean.getBoolean(ENABLED_PROPERTY);
+  private static final Phase[] PHASES = Phase.values();
+  private static final double NANOS_PER_SECOND = 1e9;
+  private static final com.sun.management.ThreadMXBean THREADS = ENABLED
+      ? (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean() : null;
+  private static final jdk.jfr.EventType PHASE_EVENTS = ENABLED
+      ? jdk.jfr.EventType.getEventType(PhaseEvent.class) : null;
+  private static final jdk.jfr.EventType HAND_EVENTS = ENABLED
+      ? jdk.jfr.EventType.getEventType(HandEvent.class) : null;
+  private static final LatencyHistogram[] HISTOGRAMS = ENABLED ? histograms() : null;
+  private static final LongAdder HANDS = new LongAdder();
+  private static final LongAdder ACTIONS = new LongAdder();
+  private static final LongAdder ALLOCATED = new LongAdder();
+  private static volatile long startTime = System.nanoTime();
+
+  static {
+    if (ENABLED) register();
+  }
+
+  public static long start() {
+    return ENABLED ? System.nanoTime() : 0L;
+  }
+
+  public static long allocatedBytes() {
+    return ENABLED ? THREADS.getCurrentThreadAllocatedBytes() : 0L;
+  }
+
+  public static void record(final Phase phase, final long startNanos) {
+    if (!ENABLED) return;
+    final long latency = System.nanoTime() - startNanos;
+    HISTOGRAMS[phase.ordinal()].record(latency);
+    if (PHASE_EVENTS.isEnabled()) {
+      final PhaseEvent event = new PhaseEvent();
+      event.phase = phase.toString();
+      event.latency = latency;
+      event.commit();
+    }
+  }
+
+  public static void recordHand(final long startNanos, final long allocatedBefore,
+      final long actions, final long handSeed) {
+    if (!ENABLED) return;
+    final long latency = System.nanoTime() - startNanos;
+    final long allocated = THREADS.getCurrentThreadAllocatedBytes() - allocatedBefore;
+    HISTOGRAMS[Phase.HAND.ordinal()].record(latency);
+    HANDS.increment();
+    ACTIONS.add(actions);
+    ALLOCATED.add(allocated);
+    if (HAND_EVENTS.isEnabled()) {
+      final HandEvent event = new HandEvent();
+      event.handSeed = handSeed;
+      event.actions = actions;
+      event.latency = latency;
+      event.allocated = allocated;
+      event.commit();
+    }
+  }
+
+  public static LatencyHistogram getHistogram(final Phase phase) {
+    return ENABLED ? HISTOGRAMS[phase.ordinal()] : null;
+  }
+
+  public static String summary() {
+    if (!ENABLED) return "Metrics are disabled, run with -D" + ENABLED_PROPERTY + "=true";
+    final View view = new View();
+    final StringBuilder sb = new StringBuilder(String.format(
+        "%d hands (%.0f/s), %d actions (%.0f/s), %.0f B/hand allocated%n",
+        view.getHandsPlayed(), view.getHandsPerSecond(), view.getActionsPlayed(),
+        view.getActionsPerSecond(), view.getAllocatedBytesPerHand()));
+    sb.append(String.format("%-9s %12s %10s %10s %10s %10s%n", "phase", "count", "mean ns",
+        "p50 ns", "p99 ns", "max ns"));
+    for (final Phase phase : PHASES) {
+      final LatencyHistogram histogram = HISTOGRAMS[phase.ordinal()];
+      sb.append(String.format("%-9s %12d %10.0f %10d %10d %10d%n",
+          phase.toString().toLowerCase(), histogram.getCount(), histogram.getMean(),
+          histogram.getPercentile(50), histogram.getPercentile(99), histogram.getMax()));
+    }
+    return sb.toString();
+  }
+
+  private static LatencyHistogram[] histograms() {
+    final LatencyHistogram[] histograms = new LatencyHistogram[PHASES.length];
+    for (int i = 0; i < histograms.length; i++) histograms[i] = new LatencyHistogram();
+    return histograms;
+  }
+
+  private static void register() {
+    try {
+      ManagementFactory.getPlatformMBeanServer().registerMBean(new View(),
+          new ObjectName(OBJECT_NAME));
+    } catch (JMException e) {
+      System.err.println(e.getMessage());
+    }
+  }
+
+  private static final class View implements MetricsMXBean {
+    @Override
+    public long getHandsPlayed() {
+      return HANDS.sum();
+    }
+
+    @Override
+    public long getActionsPlayed() {
+      return ACTIONS.sum();
+    }
+
+    @Override
+    public double getHandsPerSecond() {
+      return this.getHandsPlayed() / this.elapsedSeconds();
+    }
+
+    @Override
+    public double getActionsPerSecond() {
+      return this.getActionsPlayed() / this.elapsedSeconds();
+    }
+
+    @Override
+    public long getAllocatedBytes() {
+      return ALLOCATED.sum();
+    }
+
+    @Override
+    public double getAllocatedBytesPerHand() {
+      final long hands = this.getHandsPlayed();
+      return hands == 0 ? 0 : (double) this.getAllocatedBytes() / hands;
+    }
+
+    @Override
+    public Map<String, Long> getLatencyP50Nanos() {
+      return this.percentiles(50);
+    }
+
+    @Override
+    public Map<String, Long> getLatencyP99Nanos() {
+      return this.percentiles(99);
+    }
+
+    @Override
+    public Map<String, Long> getLatencyMaxNanos() {
+      return this.percentiles(100);
+    }
+
+    @Override
+    public void reset() {
+      for (final LatencyHistogram histogram : HISTOGRAMS) histogram.reset();
+      HANDS.reset();
+      ACTIONS.reset();
+      ALLOCATED.reset();
+      startTime = System.nanoTime();
+    }
+
+    private Map<String, Long> percentiles(final double percentile) {
+      final Map<String, Long> latencies = new LinkedHashMap<>();
+      for (final Phase phase : PHASES) {
+        latencies.put(phase.toString().toLowerCase(),
+            HISTOGRAMS[phase.ordinal()].getPercentile(percentile));
+      }
+      return latencies;
+    }
+
+    private double elapsedSeconds() {
+      return Math.max(1, System.nanoTime() - startTime) / NANOS_PER_SECOND;
+    }
+  }
+}
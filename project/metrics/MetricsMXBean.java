@@ -0,0 +1,25 @@
+package metrics;
+
+import java.util.Map;
+
+public interface MetricsMXBean {
+  long getHandsPlayed();
+
+  long getActionsPlayed();
+
+  double getHandsPerSecond();
+
+  double getActionsPerSecond();
+
+  long getAllocatedBytes();
+
+  double getAllocatedBytesPerHand();
+
+  Map<String, Long> getLatencyP50Nanos();
+
+  Map<String, Long> getLatencyP99Nanos();
+
+  Map<String, Long> getLatencyMaxNanos();
+
+  void reset();
+}
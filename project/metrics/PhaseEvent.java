@@ -0,0 +1,16 @@
+package metrics;
+
+import jdk.jfr.*;
+
+@Name("poker.Phase")
+@Label("Hand Phase")
+@Category("Poker")
+@StackTrace(false)
+final class PhaseEvent extends Event {
+  @Label("Phase")
+  String phase;
+
+  @Label("Latency")
+  @Timespan(Timespan.NANOSECONDS)
+  long latency;
+}
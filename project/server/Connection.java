@@ -0,0 +1,109 @@
+package server;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.*;
+
+final class Connection {
+  private static final int BUFFER_SIZE = 1024;
+  private static final int MAX_QUEUED_MESSAGES = 1024;
+  private final TableServer server;
+  private final SocketChannel channel;
+  private final ByteBuffer input = ByteBuffer.allocate(BUFFER_SIZE);
+  private final StringBuilder line = new StringBuilder();
+  private final Queue<ByteBuffer> output = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger queuedMessages = new AtomicInteger();
+  private final AtomicBoolean isWriteScheduled = new AtomicBoolean();
+  private SelectionKey key;
+  private volatile ServerTable table;
+  private volatile int seat = -1;
+  private volatile boolean isClosed;
+
+  Connection(final TableServer server, final SocketChannel channel) {
+    this.server = server;
+    this.channel = channel;
+  }
+
+  void register(final Selector selector) throws IOException {
+    this.key = this.channel.register(selector, SelectionKey.OP_READ, this);
+  }
+
+  void send(final String message) {
+    if (this.isClosed) return;
+    if (this.queuedMessages.incrementAndGet() > MAX_QUEUED_MESSAGES) {
+      this.close();
+      return;
+    }
+    this.output.add(ByteBuffer.wrap((message + "\n").getBytes(StandardCharsets.US_ASCII)));
+    if (this.isWriteScheduled.compareAndSet(false, true)) this.server.scheduleWrite(this);
+  }
+
+  void flush() throws IOException {
+    this.isWriteScheduled.set(false);
+    ByteBuffer buffer;
+    while ((buffer = this.output.peek()) != null) {
+      this.channel.write(buffer);
+      if (buffer.hasRemaining()) break;
+      this.output.poll();
+      this.queuedMessages.decrementAndGet();
+    }
+    if (!this.key.isValid()) return;
+    final int ops = this.output.isEmpty() ? SelectionKey.OP_READ
+        : SelectionKey.OP_READ | SelectionKey.OP_WRITE;
+    if (this.key.interestOps() != ops) this.key.interestOps(ops);
+  }
+
+  boolean read() throws IOException {
+    this.input.clear();
+    final int bytesRead = this.channel.read(this.input);
+    if (bytesRead < 0) return false;
+    this.input.flip();
+    while (this.input.hasRemaining()) {
+      final char symbol = (char) this.input.get();
+      if (symbol == '\n') {
+        this.server.handleLine(this, this.line.toString().trim());
+        this.line.setLength(0);
+      } else if (this.line.length() < Protocol.MAX_LINE_LENGTH) {
+        this.line.append(symbol);
+      } else {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  void seat(final ServerTable table, final int seat) {
+    this.table = table;
+    this.seat = seat;
+  }
+
+  ServerTable getTable() {
+    return this.table;
+  }
+
+  int getSeat() {
+    return this.seat;
+  }
+
+  boolean isClosed() {
+    return this.isClosed;
+  }
+
+  void close() {
+    if (this.isClosed) return;
+    this.isClosed = true;
+    final ServerTable table = this.table;
+    if (table != null) table.leave(this.seat, this);
+    try {
+      this.channel.close();
+    } catch (IOException e) {
+      System.err.println(e.getMessage());
+    }
+    this.output.clear();
+    this.server.wakeup();
+  }
+}
@@ -0,0 +1,163 @@
+package server;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import metrics.LatencyHistogram;
+import src.RandomSource;
+
+public final class LoadGenerator implements AutoCloseable {
+  private static final int BUFFER_SIZE = 4096;
+  private final Selector selector = Selector.open();
+  private final List<Client> clients = new ArrayList<>();
+  private final LatencyHistogram latencies = new LatencyHistogram();
+  private final ByteBuffer input = ByteBuffer.allocate(BUFFER_SIZE);
+  private final RandomSource random;
+  private long actions;
+  private long timeouts;
+  private long errors;
+  private int seated;
+  private int rejected;
+
+  public LoadGenerator(final String host, final int port, final int connections,
+      final long seed) throws IOException {
+    this.random = new RandomSource(seed);
+    final InetSocketAddress address = new InetSocketAddress(host, port);
+    for (int i = 0; i < connections; i++) {
+      final SocketChannel channel = SocketChannel.open(address);
+      channel.configureBlocking(false);
+      channel.socket().setTcpNoDelay(true);
+      final Client client = new Client(channel);
+      client.key = channel.register(this.selector, SelectionKey.OP_READ, client);
+      this.clients.add(client);
+      client.send(Protocol.JOIN);
+    }
+  }
+
+  public void run(final long durationMillis) throws IOException {
+    final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(durationMillis);
+    for (long remaining = durationMillis; remaining > 0;
+        remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())) {
+      this.selector.select(remaining);
+      final Iterator<SelectionKey> keys = this.selector.selectedKeys().iterator();
+      while (keys.hasNext()) {
+        final SelectionKey key = keys.next();
+        keys.remove();
+        final Client client = (Client) key.attachment();
+        if (key.isValid() && key.isWritable()) client.flush();
+        if (key.isValid() && key.isReadable()) this.read(client);
+      }
+    }
+  }
+
+  public long getActions() {
+    return this.actions;
+  }
+
+  public LatencyHistogram getLatencies() {
+    return this.latencies;
+  }
+
+  private void read(final Client client) throws IOException {
+    this.input.clear();
+    final int bytesRead;
+    try {
+      bytesRead = client.channel.read(this.input);
+    } catch (IOException e) {
+      client.key.cancel();
+      return;
+    }
+    if (bytesRead < 0) {
+      client.key.cancel();
+      return;
+    }
+    this.input.flip();
+    while (this.input.hasRemaining()) {
+      final char symbol = (char) this.input.get();
+      if (symbol != '\n') {
+        client.line.append(symbol);
+        continue;
+      }
+      this.handle(client, client.line.toString());
+      client.line.setLength(0);
+    }
+  }
+
+  private void handle(final Client client, final String line) throws IOException {
+    if (line.startsWith(Protocol.TURN)) {
+      final String[] parts = line.split(" ");
+      final int raiseSum = Integer.parseInt(parts[1]);
+      final boolean canCheck = Boolean.parseBoolean(parts[2]);
+      final int balance = Integer.parseInt(parts[3]);
+      client.turnTime = System.nanoTime();
+      client.send(this.chooseReply(raiseSum, canCheck, balance));
+    } else if (line.equals(Protocol.ACCEPTED)) {
+      this.latencies.record(System.nanoTime() - client.turnTime);
+      this.actions++;
+    } else if (line.startsWith(Protocol.SEATED)) {
+      this.seated++;
+    } else if (line.equals(Protocol.FULL)) {
+      this.rejected++;
+    } else if (line.equals(Protocol.TIMEOUT)) {
+      this.timeouts++;
+    } else if (line.startsWith(Protocol.ERROR)) {
+      this.errors++;
+    }
+  }
+
+  private String chooseReply(final int raiseSum, final boolean canCheck, final int balance) {
+    final int CHOICES = 10;
+    final int choice = this.random.nextInt(CHOICES);
+    if (choice == 0 && balance > raiseSum * 2) return "R " + raiseSum * 2;
+    if (choice < 3 && !canCheck) return "F";
+    return canCheck ? "K" : "C";
+  }
+
+  @Override
+  public void close() throws IOException {
+    for (final Client client : this.clients) client.channel.close();
+    this.selector.close();
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%d/%d seated (%d full), %d actions, %d timeouts, %d errors,"
+        + " round trip p50 %.2f ms, p99 %.2f ms, p99.9 %.2f ms, max %.2f ms",
+        this.seated, this.clients.size(), this.rejected, this.actions, this.timeouts,
+        this.errors, this.latencies.getPercentile(50) / 1e6,
+        this.latencies.getPercentile(99) / 1e6, this.latencies.getPercentile(99.9) / 1e6,
+        this.latencies.getMax() / 1e6);
+  }
+
+  private static final class Client {
+    private final SocketChannel channel;
+    private final StringBuilder line = new StringBuilder();
+    private final Deque<ByteBuffer> output = new ArrayDeque<>();
+    private SelectionKey key;
+    private long turnTime;
+
+    private Client(final SocketChannel channel) {
+      this.channel = channel;
+    }
+
+    private void send(final String message) throws IOException {
+      this.output.add(ByteBuffer.wrap((message + "\n").getBytes(StandardCharsets.US_ASCII)));
+      this.flush();
+    }
+
+    private void flush() throws IOException {
+      ByteBuffer buffer;
+      while ((buffer = this.output.peek()) != null) {
+        this.channel.write(buffer);
+        if (buffer.hasRemaining()) break;
+        this.output.poll();
+      }
+      this.key.interestOps(this.output.isEmpty() ? SelectionKey.OP_READ
+          : SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+    }
+  }
+}
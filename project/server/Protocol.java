@@ -0,0 +1,30 @@
+package server;
+
+import enums.Action;
+
+public final class Protocol {
+  public static final String JOIN = "JOIN";
+  public static final String QUIT = "QUIT";
+  public static final String SEATED = "SEATED";
+  public static final String FULL = "FULL";
+  public static final String ERROR = "ERR";
+  public static final String HAND = "HAND";
+  public static final String BLIND = "BLIND";
+  public static final String BOARD = "BOARD";
+  public static final String ACTION = "ACTION";
+  public static final String TURN = "TURN";
+  public static final String ACCEPTED = "OK";
+  public static final String TIMEOUT = "TIMEOUT";
+  public static final String END = "END";
+  public static final int MAX_LINE_LENGTH = 128;
+  private static final String ACTION_LETTERS = "FCRK";
+
+  public static char letter(final Action action) {
+    return ACTION_LETTERS.charAt(action.ordinal());
+  }
+
+  public static Action action(final char letter) {
+    final int idx = ACTION_LETTERS.indexOf(Character.toUpperCase(letter));
+    return idx < 0 ? null : Action.values()[idx];
+  }
+}
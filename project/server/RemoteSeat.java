@@ -0,0 +1,101 @@
+package server;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+import enums.Action;
+import metrics.LatencyHistogram;
+import src.*;
+
+final class RemoteSeat implements Strategy {
+  private static final String DETACHED = "";
+  private final Strategy fallback = new BotStrategy();
+  private final BlockingQueue<String> replies = new LinkedBlockingQueue<>();
+  private final long timeoutMillis;
+  private final LatencyHistogram latencies;
+  private final LongAdder actions;
+  private volatile Connection connection;
+  private int pendingRaiseSum;
+
+  RemoteSeat(final long timeoutMillis, final LatencyHistogram latencies,
+      final LongAdder actions) {
+    this.timeoutMillis = timeoutMillis;
+    this.latencies = latencies;
+    this.actions = actions;
+  }
+
+  @Override
+  public Action chooseAction(final Player player, final Decision decision) {
+    final Connection connection = this.connection;
+    if (connection == null) return this.fallback.chooseAction(player, decision);
+    final boolean canCheck = decision.canCheck();
+    this.replies.clear();
+    final long startTime = System.nanoTime();
+    connection.send(Protocol.TURN + " " + decision.getRaiseSum() + " " + canCheck + " "
+        + player.getBalance() + " " + this.timeoutMillis);
+    final long deadline = startTime + TimeUnit.MILLISECONDS.toNanos(this.timeoutMillis);
+    try {
+      for (long remaining = deadline - startTime; remaining > 0;
+          remaining = deadline - System.nanoTime()) {
+        final String reply = this.replies.poll(remaining, TimeUnit.NANOSECONDS);
+        if (reply == null || reply == DETACHED) break;
+        final Action action = this.parse(reply, decision, player);
+        if (action == null) {
+          connection.send(Protocol.ERROR + " invalid action " + reply);
+          continue;
+        }
+        connection.send(Protocol.ACCEPTED);
+        this.latencies.record(System.nanoTime() - startTime);
+        this.actions.increment();
+        return action;
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    if (this.connection == connection) connection.send(Protocol.TIMEOUT);
+    return canCheck ? Action.CHECK : Action.FOLD;
+  }
+
+  @Override
+  public int chooseRaiseSum(final Player player, final Decision decision) {
+    if (this.connection == null) return this.fallback.chooseRaiseSum(player, decision);
+    return this.pendingRaiseSum;
+  }
+
+  void offer(final String reply) {
+    this.replies.offer(reply);
+  }
+
+  boolean isTaken() {
+    return this.connection != null;
+  }
+
+  Connection getConnection() {
+    return this.connection;
+  }
+
+  void attach(final Connection connection) {
+    this.connection = connection;
+  }
+
+  void detach() {
+    this.connection = null;
+    this.replies.offer(DETACHED);
+  }
+
+  private Action parse(final String reply, final Decision decision, final Player player) {
+    if (reply.isEmpty()) return null;
+    final Action action = Protocol.action(reply.charAt(0));
+    if (action == null) return null;
+    if (action == Action.CHECK && !decision.canCheck()) return null;
+    if (action != Action.RAISE) return action;
+    final int raiseSum;
+    try {
+      raiseSum = Integer.parseInt(reply.substring(1).trim());
+    } catch (NumberFormatException e) {
+      return null;
+    }
+    if (raiseSum <= decision.getRaiseSum() || raiseSum > player.getBalance()) return null;
+    this.pendingRaiseSum = raiseSum;
+    return action;
+  }
+}
@@ -0,0 +1,128 @@
+package server;
+
+import java.util.concurrent.atomic.LongAdder;
+import enums.Action;
+import metrics.LatencyHistogram;
+import src.*;
+
+final class ServerTable implements Runnable, HandListener {
+  private final int id;
+  private final RemoteSeat[] seats = new RemoteSeat[GameSession.defaultSeats()];
+  private final SimulationEngine engine;
+  private final LongAdder handsPlayed;
+  private volatile boolean isStopped;
+  private int seatedCount;
+
+  ServerTable(final int id, final long seed, final long timeoutMillis,
+      final LatencyHistogram latencies, final LongAdder actions,
+      final LongAdder handsPlayed) {
+    this.id = id;
+    this.handsPlayed = handsPlayed;
+    for (int i = 0; i < this.seats.length; i++) {
+      this.seats[i] = new RemoteSeat(timeoutMillis, latencies, actions);
+    }
+    this.engine = new SimulationEngine(this.seats, seed);
+    this.engine.setHandListener(this);
+  }
+
+  @Override
+  public void run() {
+    try {
+      while (this.awaitPlayers()) {
+        this.engine.playHand();
+        this.handsPlayed.increment();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private synchronized boolean awaitPlayers() throws InterruptedException {
+    while (this.seatedCount == 0 && !this.isStopped) this.wait();
+    return !this.isStopped;
+  }
+
+  synchronized int join(final Connection connection, final int seat) {
+    if (seat >= this.seats.length) return -1;
+    int idx = seat;
+    if (idx < 0) {
+      for (int i = 0; i < this.seats.length && idx < 0; i++) {
+        if (!this.seats[i].isTaken()) idx = i;
+      }
+    }
+    if (idx < 0 || this.seats[idx].isTaken()) return -1;
+    this.seats[idx].attach(connection);
+    connection.seat(this, idx);
+    this.seatedCount++;
+    this.notifyAll();
+    return idx;
+  }
+
+  synchronized void leave(final int seat, final Connection connection) {
+    if (this.seats[seat].getConnection() != connection) return;
+    this.seats[seat].detach();
+    this.seatedCount--;
+  }
+
+  void offer(final int seat, final String reply) {
+    this.seats[seat].offer(reply);
+  }
+
+  synchronized void stop() {
+    this.isStopped = true;
+    for (final RemoteSeat seat : this.seats) {
+      if (seat.isTaken()) seat.detach();
+    }
+    this.notifyAll();
+  }
+
+  int getId() {
+    return this.id;
+  }
+
+  @Override
+  public void onHandStart(final long handSeed, final Player[] players) {
+    for (int i = 0; i < this.seats.length; i++) {
+      final Connection connection = this.seats[i].getConnection();
+      if (connection == null) continue;
+      connection.send(Protocol.HAND + " " + handSeed + " " + i + " "
+          + HandRange.formatCards(players[i].getHandMask()));
+    }
+  }
+
+  @Override
+  public void onBlind(final int seat, final int amount, final boolean isBigBlind) {
+    this.broadcast(Protocol.BLIND + " " + seat + " " + amount);
+  }
+
+  @Override
+  public void onStreet(final Card[] tableCards, final int tableCardsCount,
+      final int newCardsCount) {
+    long tableMask = 0L;
+    for (int i = 0; i < tableCardsCount; i++) tableMask |= tableCards[i].getMask();
+    this.broadcast(Protocol.BOARD + " " + HandRange.formatCards(tableMask));
+  }
+
+  @Override
+  public void onAction(final int seat, final Action action, final int amount) {
+    this.broadcast(Protocol.ACTION + " " + seat + " " + Protocol.letter(action) + " "
+        + amount);
+  }
+
+  @Override
+  public void onHandEnd(final Player[] players, final int pot) {
+    for (int i = 0; i < this.seats.length; i++) {
+      final Connection connection = this.seats[i].getConnection();
+      if (connection != null) {
+        connection.send(Protocol.END + " " + pot + " " + players[i].getBalance());
+      }
+    }
+  }
+
+  private void broadcast(final String message) {
+    for (final RemoteSeat seat : this.seats) {
+      final Connection connection = seat.getConnection();
+      if (connection != null) connection.send(message);
+    }
+  }
+}
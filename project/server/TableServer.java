@@ -0,0 +1,204 @@
+package server;
+
+import java.io.IOException;
+import java.net.*;
+import java.nio.channels.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+import metrics.LatencyHistogram;
+import src.*;
+
+public final class TableServer implements AutoCloseable {
+  public static final long DEFAULT_TIMEOUT_MILLIS = 30_000;
+  private static final int BACKLOG = 4096;
+  private final ServerSocketChannel serverChannel;
+  private final Selector selector;
+  private final Queue<Connection> pendingWrites = new ConcurrentLinkedQueue<>();
+  private final ServerTable[] tables;
+  private final ExecutorService executor = TableRunner.newVirtualThreadExecutor(
+      Executors::newCachedThreadPool);
+  private final LatencyHistogram latencies = new LatencyHistogram();
+  private final LongAdder actions = new LongAdder();
+  private final LongAdder handsPlayed = new LongAdder();
+  private final Thread selectorThread;
+  private final long startTime = System.nanoTime();
+  private volatile boolean isClosed;
+
+  public TableServer(final int port, final int tablesCount, final long timeoutMillis,
+      final long seed) throws IOException {
+    this(InetAddress.getLoopbackAddress(), port, tablesCount, timeoutMillis, seed);
+  }
+
+  public TableServer(final InetAddress address, final int port, final int tablesCount,
+      final long timeoutMillis, final long seed) throws IOException {
+    this.selector = Selector.open();
+    this.serverChannel = ServerSocketChannel.open();
+    this.serverChannel.bind(new InetSocketAddress(address, port), BACKLOG);
+    this.serverChannel.configureBlocking(false);
+    this.serverChannel.register(this.selector, SelectionKey.OP_ACCEPT);
+    final RandomSource seeds = new RandomSource(seed);
+    this.tables = new ServerTable[tablesCount];
+    for (int i = 0; i < tablesCount; i++) {
+      this.tables[i] = new ServerTable(i, seeds.nextLong(), timeoutMillis, this.latencies,
+          this.actions, this.handsPlayed);
+      this.executor.execute(this.tables[i]);
+    }
+    this.selectorThread = new Thread(this::select, "table-server-selector");
+    this.selectorThread.start();
+  }
+
+  public InetAddress getAddress() {
+    return this.serverChannel.socket().getInetAddress();
+  }
+
+  public int getPort() {
+    return this.serverChannel.socket().getLocalPort();
+  }
+
+  public long getActions() {
+    return this.actions.sum();
+  }
+
+  public long getHandsPlayed() {
+    return this.handsPlayed.sum();
+  }
+
+  public LatencyHistogram getLatencies() {
+    return this.latencies;
+  }
+
+  void scheduleWrite(final Connection connection) {
+    this.pendingWrites.add(connection);
+    this.selector.wakeup();
+  }
+
+  void wakeup() {
+    this.selector.wakeup();
+  }
+
+  void handleLine(final Connection connection, final String line) {
+    if (line.isEmpty()) return;
+    final ServerTable table = connection.getTable();
+    if (line.startsWith(Protocol.JOIN)) {
+      this.join(connection, line);
+    } else if (line.equals(Protocol.QUIT)) {
+      connection.close();
+    } else if (table == null) {
+      connection.send(Protocol.ERROR + " not seated");
+    } else {
+      table.offer(connection.getSeat(), line);
+    }
+  }
+
+  private void join(final Connection connection, final String line) {
+    if (connection.getTable() != null) {
+      connection.send(Protocol.ERROR + " already seated");
+      return;
+    }
+    final String[] parts = line.split("\\s+");
+    final int tableIdx;
+    final int seat;
+    try {
+      tableIdx = parts.length > 1 ? Integer.parseInt(parts[1]) : -1;
+      seat = parts.length > 2 ? Integer.parseInt(parts[2]) : -1;
+    } catch (NumberFormatException e) {
+      connection.send(Protocol.ERROR + " invalid join " + line);
+      return;
+    }
+    if (tableIdx >= this.tables.length) {
+      connection.send(Protocol.ERROR + " no table " + tableIdx);
+      return;
+    }
+    final int first = tableIdx < 0 ? 0 : tableIdx;
+    final int last = tableIdx < 0 ? this.tables.length : tableIdx + 1;
+    for (int i = first; i < last; i++) {
+      final int seated = this.tables[i].join(connection, seat);
+      if (seated >= 0) {
+        connection.send(Protocol.SEATED + " " + i + " " + seated);
+        return;
+      }
+    }
+    connection.send(Protocol.FULL);
+  }
+
+  private void select() {
+    try {
+      while (!this.isClosed) {
+        this.selector.select();
+        Connection pending;
+        while ((pending = this.pendingWrites.poll()) != null) this.flush(pending);
+        final Iterator<SelectionKey> keys = this.selector.selectedKeys().iterator();
+        while (keys.hasNext()) {
+          final SelectionKey key = keys.next();
+          keys.remove();
+          if (!key.isValid()) continue;
+          if (key.isAcceptable()) {
+            this.accept();
+            continue;
+          }
+          final Connection connection = (Connection) key.attachment();
+          if (key.isWritable()) this.flush(connection);
+          if (key.isValid() && key.isReadable()) this.read(connection);
+        }
+      }
+    } catch (IOException | ClosedSelectorException e) {
+      if (!this.isClosed) System.err.println(e.getMessage());
+    }
+  }
+
+  private void accept() throws IOException {
+    SocketChannel channel;
+    while ((channel = this.serverChannel.accept()) != null) {
+      channel.configureBlocking(false);
+      channel.socket().setTcpNoDelay(true);
+      new Connection(this, channel).register(this.selector);
+    }
+  }
+
+  private void read(final Connection connection) {
+    try {
+      if (!connection.read()) connection.close();
+    } catch (IOException e) {
+      connection.close();
+    }
+  }
+
+  private void flush(final Connection connection) {
+    if (connection.isClosed()) return;
+    try {
+      connection.flush();
+    } catch (IOException | CancelledKeyException e) {
+      connection.close();
+    }
+  }
+
+  @Override
+  public void close() {
+    this.isClosed = true;
+    for (final ServerTable table : this.tables) table.stop();
+    this.executor.shutdown();
+    try {
+      this.selector.close();
+      this.serverChannel.close();
+      this.selectorThread.join();
+      this.executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+    } catch (IOException e) {
+      System.err.println(e.getMessage());
+    } catch (InterruptedException e) {
+      this.executor.shutdownNow();
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  @Override
+  public String toString() {
+    final double seconds = (System.nanoTime() - this.startTime) / 1e9;
+    return String.format("%d tables, %d hands, %d remote actions (%.0f actions/s),"
+        + " latency p50 %.2f ms, p99 %.2f ms, p99.9 %.2f ms, max %.2f ms",
+        this.tables.length, this.getHandsPlayed(), this.getActions(),
+        this.getActions() / seconds, this.latencies.getPercentile(50) / 1e6,
+        this.latencies.getPercentile(99) / 1e6, this.latencies.getPercentile(99.9) / 1e6,
+        this.latencies.getMax() / 1e6);
+  }
+}
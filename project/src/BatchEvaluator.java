@@ -0,0 +1,94 @@
+package src;
+
+import java.util.*;
+import staticClasses.HandEvaluator;
+
+public final class BatchEvaluator {
+  public static final int BLOCKED = -1;
+  public static final String SCALAR_PROPERTY = "evaluator.scalar";
+  private static final String VECTOR_MODULE = "jdk.incubator.vector";
+  private static final boolean IS_VECTORIZED = !Boolean.getBoolean(SCALAR_PROPERTY)
+      && ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent()
+      && VectorEvaluator.isSupported();
+  private static final int RANKS_COUNT = HandEvaluator.RANKS_COUNT;
+  private static final int SUITS_COUNT = HandEvaluator.SUITS_COUNT;
+  private static final long SUIT_MASK = (1L << RANKS_COUNT) - 1;
+  private static final int HAND_CARDS = 2;
+  private static final int FLUSH_CARDS = 5;
+  private final int[] rankStrengths = new int[RANKS_COUNT * RANKS_COUNT];
+  private final VectorEvaluator vectorEvaluator = IS_VECTORIZED ? new VectorEvaluator()
+      : null;
+  private long[] flushHands = new long[0];
+  private int[] flushIndices = new int[0];
+  private int[] flushStrengths = new int[0];
+  private long tableMask = -1L;
+  private long flushMask;
+  private long evaluations;
+
+  public void evaluate(final long[] handMasks, final long tableMask, final int[] strengths) {
+    if (tableMask != this.tableMask) {
+      Arrays.fill(this.rankStrengths, 0);
+      this.tableMask = tableMask;
+      this.flushMask = flushMask(tableMask);
+    }
+    final long flushMask = this.flushMask;
+    if (this.flushHands.length < handMasks.length) this.grow(handMasks.length);
+    int flushCount = 0;
+    for (int i = 0; i < handMasks.length; i++) {
+      final long handMask = handMasks[i];
+      if ((handMask & tableMask) != 0) {
+        strengths[i] = BLOCKED;
+      } else if ((handMask & flushMask) != 0) {
+        this.flushHands[flushCount] = handMask | tableMask;
+        this.flushIndices[flushCount++] = i;
+      } else {
+        final int low = Long.numberOfTrailingZeros(handMask) % RANKS_COUNT;
+        final int high = (Long.SIZE - 1 - Long.numberOfLeadingZeros(handMask)) % RANKS_COUNT;
+        final int key = Math.min(low, high) * RANKS_COUNT + Math.max(low, high);
+        int strength = this.rankStrengths[key];
+        if (strength == 0) {
+          strength = this.evaluate(handMask | tableMask);
+          this.rankStrengths[key] = strength;
+        }
+        strengths[i] = strength;
+      }
+    }
+    this.evaluate(this.flushHands, flushCount, this.flushStrengths);
+    for (int i = 0; i < flushCount; i++) {
+      strengths[this.flushIndices[i]] = this.flushStrengths[i];
+    }
+  }
+
+  public void evaluate(final long[] cardsMasks, final int count, final int[] strengths) {
+    int i = IS_VECTORIZED ? this.vectorEvaluator.evaluate(cardsMasks, count, strengths) : 0;
+    this.evaluations += i;
+    for (; i < count; i++) strengths[i] = this.evaluate(cardsMasks[i]);
+  }
+
+  public static boolean isVectorized() {
+    return IS_VECTORIZED;
+  }
+
+  public long getEvaluations() {
+    return this.evaluations;
+  }
+
+  private int evaluate(final long cardsMask) {
+    this.evaluations++;
+    return HandEvaluator.evaluate(cardsMask);
+  }
+
+  private void grow(final int size) {
+    this.flushHands = new long[size];
+    this.flushIndices = new int[size];
+    this.flushStrengths = new int[size];
+  }
+
+  private static long flushMask(final long tableMask) {
+    for (int suit = 0; suit < SUITS_COUNT; suit++) {
+      final long suitMask = SUIT_MASK << suit * RANKS_COUNT;
+      if (Long.bitCount(tableMask & suitMask) + HAND_CARDS >= FLUSH_CARDS) return suitMask;
+    }
+    return 0L;
+  }
+}
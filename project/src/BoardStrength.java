@@ -0,0 +1,44 @@
+package src;
+
+public final class BoardStrength {
+  private static final long[] COMBOS = HandRange.all().combos(0L);
+  private final BatchEvaluator evaluator = new BatchEvaluator();
+  private final int[] strengths = new int[HandRange.COMBOS_COUNT];
+  private long tableMask = -1L;
+  private int blocked;
+
+  public double get(final long handMask, final long tableMask) {
+    if (tableMask != this.tableMask) this.update(tableMask);
+    final int strength = this.strengths[HandRange.comboIndex(handMask)];
+    int wins = -this.blocked;
+    int ties = 0;
+    for (final int opponent : this.strengths) {
+      if (opponent < strength) wins++;
+      else if (opponent == strength) ties++;
+    }
+    int total = this.strengths.length - this.blocked;
+    for (long cards = handMask; cards != 0; cards &= cards - 1) {
+      final int card = Long.numberOfTrailingZeros(cards);
+      for (int other = 0; other < Card.DECK_SIZE; other++) {
+        final long otherMask = 1L << other;
+        if (other == card || (tableMask & otherMask) != 0) continue;
+        if ((handMask & otherMask) != 0 && other < card) continue;
+        final int opponent = this.strengths[HandRange.comboIndex(1L << card | otherMask)];
+        if (opponent < strength) wins--;
+        else if (opponent == strength) ties--;
+        total--;
+      }
+    }
+    return (wins + ties / 2.0) / total;
+  }
+
+  private void update(final long tableMask) {
+    this.tableMask = tableMask;
+    this.evaluator.evaluate(COMBOS, tableMask, this.strengths);
+    int blocked = 0;
+    for (final int strength : this.strengths) {
+      if (strength == BatchEvaluator.BLOCKED) blocked++;
+    }
+    this.blocked = blocked;
+  }
+}
@@ -0,0 +1,135 @@
+package src;
+
+import enums.Action;
+import java.util.concurrent.ThreadLocalRandom;
+import enums.Combination;
+import enums.Stat;
+
+public final class BotStrategy implements Strategy {
+  public static final int MIN_DELAY_TIME = 1000;
+  public static final int MAX_DELAY_TIME = 3000;
+  public static final String READS_PROPERTY = "bot.opponent.reads";
+  private static final Action[] ACTIONS = Action.values();
+  private static final int MAX_HAND_STRENGTH = Combination.values().length - 1;
+  private final int minDelayTime;
+  private final int maxDelayTime;
+  private final EquityCalculator equityCalculator;
+  private final PreflopTable preflopTable;
+  private final StrategyTable strategyTable;
+  private boolean isReadingOpponents = Boolean.getBoolean(READS_PROPERTY);
+
+  public BotStrategy() {
+    this(0, 0);
+  }
+
+  public BotStrategy(final int minDelayTime, final int maxDelayTime) {
+    this(minDelayTime, maxDelayTime, new EquityCalculator(),
+        PreflopTable.getDefault(), StrategyTable.getDefault());
+  }
+
+  public BotStrategy(final int minDelayTime, final int maxDelayTime,
+      final EquityCalculator equityCalculator, final PreflopTable preflopTable) {
+    this(minDelayTime, maxDelayTime, equityCalculator, preflopTable, null);
+  }
+
+  public BotStrategy(final int minDelayTime, final int maxDelayTime,
+      final EquityCalculator equityCalculator, final PreflopTable preflopTable,
+      final StrategyTable strategyTable) {
+    this.minDelayTime = minDelayTime;
+    this.maxDelayTime = maxDelayTime;
+    this.equityCalculator = equityCalculator;
+    this.preflopTable = preflopTable;
+    this.strategyTable = strategyTable;
+  }
+
+  public BotStrategy setReadingOpponents(final boolean isReadingOpponents) {
+    this.isReadingOpponents = isReadingOpponents;
+    return this;
+  }
+
+  @Override
+  public Action chooseAction(final Player player, final Decision decision) {
+    delay();
+    if (this.strategyTable != null) return this.chooseTrainedAction(player, decision);
+    final int randomDecisionNum = this.getRandomDecisionNum(player, decision);
+    for (final Action action : ACTIONS) {
+      if (action.getRange().contains(randomDecisionNum)) return action;
+    }
+    return Action.FOLD;
+  }
+
+  @Override
+  public int chooseRaiseSum(final Player player, final Decision decision) {
+    final int MAX_RAISE_FACTOR = 5;
+    final int raiseSum = decision.getRaiseSum();
+    if (this.strategyTable != null) return raiseSum * StrategyTable.RAISE_FACTOR;
+    final int RAISE_SUM_LIMIT = raiseSum * MAX_RAISE_FACTOR;
+    return raiseSum + decision.getRandom().inRange(raiseSum, RAISE_SUM_LIMIT,
+        GameSession.SMALL_BLIND_SIZE);
+  }
+
+  private Action chooseTrainedAction(final Player player, final Decision decision) {
+    final long tableMask = decision.getTableMask();
+    final int bucket = StrategyTable.bucket(player.getHandMask(), tableMask,
+        this.preflopTable, decision.getBoardStrength())
+        + this.getReadAdjustment(decision);
+    final int infoSet = StrategyTable.infoSet(StrategyTable.street(tableMask),
+        StrategyTable.raises(decision.getRaiseSum()), !decision.canCheck(),
+        Math.max(0, Math.min(StrategyTable.BUCKETS - 1, bucket)));
+    final Action action = this.strategyTable.sampleAction(infoSet, decision.getRandom());
+    return action == Action.CALL && decision.canCheck() ? Action.CHECK : action;
+  }
+
+  private void delay() {
+    if (this.maxDelayTime == 0) return;
+    final int randomSleepTime = ThreadLocalRandom.current().nextInt(
+        this.minDelayTime, this.maxDelayTime + 1);
+    try {
+      Thread.sleep(randomSleepTime);
+    } catch (Exception e) {
+      System.out.println(e.getMessage());
+    }
+  }
+
+  private int getHandStrength(final Player player, final Decision decision) {
+    return (int) Math.round(this.getEquity(player, decision) * MAX_HAND_STRENGTH);
+  }
+
+  private double getEquity(final Player player, final Decision decision) {
+    final int opponents = decision.getOpponents();
+    if (decision.isPreflop() && this.preflopTable != null && opponents > 0
+        && opponents <= PreflopTable.MAX_OPPONENTS) {
+      return this.preflopTable.getEquity(player.getHandMask(), opponents);
+    }
+    return this.equityCalculator.getEquity(player.getHandMask(),
+        decision.getTableMask(), opponents, decision.getRandom());
+  }
+
+  private int getRandomDecisionNum(final Player player, final Decision decision) {
+    final boolean canCheck = decision.canCheck();
+    final int RANGE_LENGTH = canCheck ? 12 : 10;
+    final int handStrength = Math.max(0, Math.min(MAX_HAND_STRENGTH,
+        this.getHandStrength(player, decision) + this.getReadAdjustment(decision)));
+    final int MIN_CHECK_NUMBER = GameSession.MAX_CHECK_NUM - RANGE_LENGTH
+        - handStrength;
+    final int MAX_CHECK_NUMBER = GameSession.MAX_CHECK_NUM - handStrength;
+    final int MIN_RANDOM_NUMBER = canCheck ? MIN_CHECK_NUMBER : handStrength;
+    final int MAX_RANDOM_NUMBER = canCheck ? MAX_CHECK_NUMBER
+        : RANGE_LENGTH + handStrength;
+    return decision.getRandom().inRange(MIN_RANDOM_NUMBER, MAX_RANDOM_NUMBER);
+  }
+
+  private int getReadAdjustment(final Decision decision) {
+    final double AGGRESSIVE_FACTOR = 2.0;
+    final double PASSIVE_FACTOR = 0.75;
+    final double HIGH_FOLD_TO_RAISE = 0.6;
+    final double LOW_FOLD_TO_RAISE = 0.3;
+    if (!this.isReadingOpponents) return 0;
+    if (!decision.canCheck()) {
+      final double aggression = decision.getAggressorStat(Stat.AGGRESSION);
+      return aggression >= AGGRESSIVE_FACTOR ? 1 : aggression <= PASSIVE_FACTOR ? -1 : 0;
+    }
+    final double foldToRaise = decision.getOpponentsStat(Stat.FOLD_TO_RAISE);
+    return foldToRaise >= HIGH_FOLD_TO_RAISE ? 1 : foldToRaise <= LOW_FOLD_TO_RAISE ? -1 : 0;
+  }
+}
@@ -3,12 +3,45 @@ package src;
 import enums.*;
 
 public final class Card {
+  private static final Rank[] RANKS = Rank.values();
+  private static final Suit[] SUITS = Suit.values();
+  public static final int DECK_SIZE = RANKS.length * SUITS.length;
+  private static final Card[] CARDS = new Card[DECK_SIZE];
   private final Suit suit;
   private final Rank rank;
+  private final int index;
+  private final String symbol;
 
-  public Card(final Suit suit, final Rank rank) {
+  static {
+    for (final Suit suit : SUITS) {
+      for (final Rank rank : RANKS) {
+        final Card card = new Card(suit, rank);
+        CARDS[card.index] = card;
+      }
+    }
+  }
+
+  private Card(final Suit suit, final Rank rank) {
     this.suit = suit;
     this.rank = rank;
+    this.index = suit.ordinal() * RANKS.length + rank.ordinal();
+    this.symbol = this.createSymbol();
+  }
+
+  public static Card of(final int index) {
+    return CARDS[index];
+  }
+
+  public static Card of(final Suit suit, final Rank rank) {
+    return CARDS[suit.ordinal() * RANKS.length + rank.ordinal()];
+  }
+
+  public int getIndex() {
+    return this.index;
+  }
+
+  public long getMask() {
+    return 1L << this.index;
   }
 
   public Rank getRank() {
@@ -21,6 +54,10 @@ public final class Card {
 
   @Override
   public String toString() {
+    return this.symbol;
+  }
+
+  private String createSymbol() {
     final int ENUM_IDX_SHIFT = 2;
     final int rankValue = rank.ordinal();
     final String rankLetter = rank.toString().substring(0, 1);
@@ -0,0 +1,286 @@
+package src;
+
+import java.io.IOException;
+import java.nio.*;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+import enums.Action;
+import staticClasses.HandEvaluator;
+
+public final class CfrTrainer {
+  public static final int STACK = (GameSession.MIN_BALANCE + GameSession.MAX_BALANCE) / 2;
+  private static final int MAGIC = 0x43465243;
+  private static final int VERSION = 1;
+  private static final int HEADER_SIZE = 24;
+  private static final int VALUES = StrategyTable.INFO_SETS * StrategyTable.ACTIONS;
+  private static final int PLAYERS = 2;
+  private static final int HAND_CARDS = 2;
+  private static final int DEAL_CARDS = PLAYERS * HAND_CARDS + GameSession.TABLE_CARDS;
+  private static final int MAX_DEPTH = StrategyTable.STREETS * (StrategyTable.MAX_RAISES + 2);
+  private static final int FOLD = Action.FOLD.ordinal();
+  private static final int CALL = Action.CALL.ordinal();
+  private static final int RAISE = Action.RAISE.ordinal();
+  private static final int BATCH_ITERATIONS = 1024;
+  private final double[] regrets = new double[VALUES];
+  private final double[] strategySums = new double[VALUES];
+  private final PreflopTable preflopTable;
+  private long iterations;
+
+  public CfrTrainer(final PreflopTable preflopTable) {
+    this.preflopTable = preflopTable;
+  }
+
+  public static CfrTrainer resume(final Path checkpoint, final PreflopTable preflopTable)
+      throws IOException {
+    final CfrTrainer trainer = new CfrTrainer(preflopTable);
+    if (!Files.isRegularFile(checkpoint)) return trainer;
+    final ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(checkpoint))
+        .order(ByteOrder.LITTLE_ENDIAN);
+    if (buffer.capacity() != HEADER_SIZE + 2 * VALUES * Double.BYTES
+        || buffer.getInt() != MAGIC || buffer.getInt() != VERSION
+        || buffer.getInt() != VALUES) {
+      throw new IOException("Not a CFR checkpoint: " + checkpoint);
+    }
+    buffer.getInt();
+    trainer.iterations = buffer.getLong();
+    buffer.asDoubleBuffer().get(trainer.regrets);
+    buffer.position(HEADER_SIZE + VALUES * Double.BYTES);
+    buffer.asDoubleBuffer().get(trainer.strategySums);
+    return trainer;
+  }
+
+  public void train(final long iterationsCount, final int threads, final long seed)
+      throws InterruptedException, ExecutionException {
+    final RandomSource seeds = new RandomSource(seed + this.iterations);
+    final ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      final Worker[] workers = new Worker[threads];
+      for (int i = 0; i < threads; i++) workers[i] = new Worker(seeds.split());
+      final List<Future<?>> futures = new ArrayList<>(threads);
+      long remaining = iterationsCount;
+      while (remaining > 0) {
+        final long batch = Math.min(remaining, (long) BATCH_ITERATIONS * threads);
+        futures.clear();
+        for (int i = 0; i < threads; i++) {
+          final long share = batch / threads + (i < batch % threads ? 1 : 0);
+          final Worker worker = workers[i];
+          futures.add(executor.submit(() -> worker.run(share)));
+        }
+        for (final Future<?> future : futures) future.get();
+        for (final Worker worker : workers) worker.merge();
+        remaining -= batch;
+      }
+    } finally {
+      executor.shutdown();
+    }
+    this.iterations += iterationsCount;
+  }
+
+  public long getIterations() {
+    return this.iterations;
+  }
+
+  public double getAverageRegret() {
+    if (this.iterations == 0) return 0;
+    double total = 0;
+    for (int infoSet = 0; infoSet < StrategyTable.INFO_SETS; infoSet++) {
+      double maxRegret = 0;
+      for (int i = 0; i < StrategyTable.ACTIONS; i++) {
+        maxRegret = Math.max(maxRegret, this.regrets[infoSet * StrategyTable.ACTIONS + i]);
+      }
+      total += maxRegret;
+    }
+    return total / this.iterations / StrategyTable.INFO_SETS;
+  }
+
+  public void checkpoint(final Path path) throws IOException {
+    final ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + 2 * VALUES * Double.BYTES)
+        .order(ByteOrder.LITTLE_ENDIAN);
+    buffer.putInt(MAGIC).putInt(VERSION).putInt(VALUES).putInt(0).putLong(this.iterations);
+    buffer.asDoubleBuffer().put(this.regrets);
+    buffer.position(HEADER_SIZE + VALUES * Double.BYTES);
+    buffer.asDoubleBuffer().put(this.strategySums);
+    final Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+    try (final FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+        StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+      buffer.rewind();
+      while (buffer.hasRemaining()) channel.write(buffer);
+      channel.force(true);
+    }
+    Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING,
+        StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  public void writeStrategy(final Path path) throws IOException {
+    StrategyTable.write(path, this.strategySums);
+  }
+
+  private final class Worker {
+    private final RandomSource random;
+    private final double[] regretDeltas = new double[VALUES];
+    private final double[] strategyDeltas = new double[VALUES];
+    private final BoardStrength boardStrength = new BoardStrength();
+    private final byte[] deck = new byte[Card.DECK_SIZE];
+    private final long[] hands = new long[PLAYERS];
+    private final int[][] buckets = new int[PLAYERS][StrategyTable.STREETS];
+    private final double[][] strategies = new double[MAX_DEPTH][StrategyTable.ACTIONS];
+    private final double[][] utilities = new double[MAX_DEPTH][StrategyTable.ACTIONS];
+    private int showdown;
+    private int traverser;
+    private long iterations;
+
+    private Worker(final RandomSource random) {
+      this.random = random;
+      for (int i = 0; i < this.deck.length; i++) this.deck[i] = (byte) i;
+    }
+
+    private void run(final long iterationsCount) {
+      for (long i = 0; i < iterationsCount; i++) {
+        this.deal();
+        this.traverser = (int) (this.iterations++ & 1);
+        this.walk(0, 0, 0, 0, 0, GameSession.BIG_BLIND_SIZE, 0,
+            GameSession.SMALL_BLIND_SIZE, GameSession.BIG_BLIND_SIZE);
+      }
+    }
+
+    private void merge() {
+      for (int i = 0; i < VALUES; i++) {
+        regrets[i] += this.regretDeltas[i];
+        strategySums[i] += this.strategyDeltas[i];
+      }
+      Arrays.fill(this.regretDeltas, 0);
+      Arrays.fill(this.strategyDeltas, 0);
+    }
+
+    private void deal() {
+      for (int i = 0; i < DEAL_CARDS; i++) {
+        final int j = i + this.random.nextInt(this.deck.length - i);
+        final byte card = this.deck[j];
+        this.deck[j] = this.deck[i];
+        this.deck[i] = card;
+      }
+      long tableMask = 0L;
+      for (int p = 0; p < PLAYERS; p++) {
+        this.hands[p] = 1L << this.deck[p * HAND_CARDS] | 1L << this.deck[p * HAND_CARDS + 1];
+      }
+      for (int street = 0; street < StrategyTable.STREETS; street++) {
+        final int tableCards = street == 0 ? 0 : street + 2;
+        while (Long.bitCount(tableMask) < tableCards) {
+          tableMask |= 1L << this.deck[PLAYERS * HAND_CARDS + Long.bitCount(tableMask)];
+        }
+        for (int p = 0; p < PLAYERS; p++) {
+          this.buckets[p][street] = StrategyTable.bucket(this.hands[p], tableMask,
+              preflopTable, this.boardStrength);
+        }
+      }
+      this.showdown = Integer.signum(HandEvaluator.evaluate(this.hands[0] | tableMask)
+          - HandEvaluator.evaluate(this.hands[1] | tableMask));
+    }
+
+    private double walk(final int depth, final int street, final int player,
+        final int raises, final int acted, final int bet, final int base,
+        final int firstIn, final int secondIn) {
+      final int playerIn = player == 0 ? firstIn : secondIn;
+      final int opponentIn = player == 0 ? secondIn : firstIn;
+      final boolean isFacingBet = bet > playerIn;
+      final boolean canRaise = raises < StrategyTable.MAX_RAISES
+          && STACK - base - playerIn > bet - playerIn && base + opponentIn < STACK;
+      final int infoSet = StrategyTable.infoSet(street, raises, isFacingBet,
+          this.buckets[player][street]);
+      final double[] strategy = this.strategies[depth];
+      this.regretMatching(infoSet, isFacingBet, canRaise, strategy);
+      if (player != this.traverser) {
+        final int offset = infoSet * StrategyTable.ACTIONS;
+        for (int i = 0; i < StrategyTable.ACTIONS; i++) {
+          this.strategyDeltas[offset + i] += strategy[i];
+        }
+        return this.act(depth, this.sample(strategy), street, player, raises, acted, bet,
+            base, firstIn, secondIn);
+      }
+      final double[] utility = this.utilities[depth];
+      double nodeUtility = 0;
+      for (int i = 0; i < StrategyTable.ACTIONS; i++) {
+        if (!this.isLegal(i, isFacingBet, canRaise)) continue;
+        utility[i] = this.act(depth, i, street, player, raises, acted, bet, base,
+            firstIn, secondIn);
+        nodeUtility += strategy[i] * utility[i];
+      }
+      final int offset = infoSet * StrategyTable.ACTIONS;
+      for (int i = 0; i < StrategyTable.ACTIONS; i++) {
+        if (this.isLegal(i, isFacingBet, canRaise)) {
+          this.regretDeltas[offset + i] += utility[i] - nodeUtility;
+        }
+      }
+      return nodeUtility;
+    }
+
+    private double act(final int depth, final int action, final int street,
+        final int player, final int raises, final int acted, final int bet, final int base,
+        final int firstIn, final int secondIn) {
+      final int opponent = 1 - player;
+      if (action == FOLD) {
+        final int folded = base + (player == 0 ? firstIn : secondIn);
+        return (player == this.traverser ? -folded : folded)
+            / (double) GameSession.BIG_BLIND_SIZE;
+      }
+      if (action == RAISE) {
+        final int target = Math.min(Math.max(bet, GameSession.BIG_BLIND_SIZE)
+            * StrategyTable.RAISE_FACTOR, STACK - base);
+        return this.walk(depth + 1, street, opponent, raises + 1, 1, target, base,
+            player == 0 ? target : firstIn, player == 0 ? secondIn : target);
+      }
+      final int called = Math.min(bet, STACK - base);
+      final int newFirstIn = player == 0 ? called : firstIn;
+      final int newSecondIn = player == 0 ? secondIn : called;
+      if (acted + 1 < PLAYERS) {
+        return this.walk(depth + 1, street, opponent, raises, acted + 1, bet, base,
+            newFirstIn, newSecondIn);
+      }
+      final int newBase = base + Math.max(newFirstIn, newSecondIn);
+      if (street == StrategyTable.STREETS - 1 || newBase >= STACK) {
+        final int result = this.traverser == 0 ? this.showdown : -this.showdown;
+        return result * newBase / (double) GameSession.BIG_BLIND_SIZE;
+      }
+      return this.walk(depth + 1, street + 1, 0, 0, 0, 0, newBase, 0, 0);
+    }
+
+    private void regretMatching(final int infoSet, final boolean isFacingBet,
+        final boolean canRaise, final double[] strategy) {
+      final int offset = infoSet * StrategyTable.ACTIONS;
+      double total = 0;
+      int legalCount = 0;
+      for (int i = 0; i < StrategyTable.ACTIONS; i++) {
+        final boolean isLegal = this.isLegal(i, isFacingBet, canRaise);
+        strategy[i] = isLegal
+            ? Math.max(0, regrets[offset + i] + this.regretDeltas[offset + i]) : 0;
+        total += strategy[i];
+        if (isLegal) legalCount++;
+      }
+      for (int i = 0; i < StrategyTable.ACTIONS; i++) {
+        if (total > 0) {
+          strategy[i] /= total;
+        } else {
+          strategy[i] = this.isLegal(i, isFacingBet, canRaise) ? 1.0 / legalCount : 0;
+        }
+      }
+    }
+
+    private boolean isLegal(final int action, final boolean isFacingBet,
+        final boolean canRaise) {
+      if (action == FOLD) return isFacingBet;
+      return action == CALL || canRaise;
+    }
+
+    private int sample(final double[] strategy) {
+      final double RESOLUTION = 1 << 30;
+      double target = this.random.nextInt((int) RESOLUTION) / RESOLUTION;
+      for (int i = 0; i < StrategyTable.ACTIONS; i++) {
+        target -= strategy[i];
+        if (target < 0 && strategy[i] > 0) return i;
+      }
+      return CALL;
+    }
+  }
+}
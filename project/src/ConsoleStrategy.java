@@ -0,0 +1,50 @@
+package src;
+
+import java.util.*;
+import enums.Action;
+
+public final class ConsoleStrategy implements Strategy {
+  private final Scanner input = new Scanner(System.in);
+  private final Output output;
+
+  public ConsoleStrategy(final Output output) {
+    this.output = output;
+  }
+
+  @Override
+  public Action chooseAction(final Player player, final Decision decision) {
+    final int balance = player.getBalance();
+    final boolean canCheck = decision.canCheck();
+    final Action[] actionsArr = Action.values();
+    this.output.flush();
+    try {
+      final String raiseStr = balance > decision.getRaiseSum() ? "Raise, " : "";
+      final String cancCheckStr = canCheck ? " or Check: " : " Call, or Fold:  ";
+      System.out.print("Your balance is " + balance + ". Enter " + raiseStr +
+          cancCheckStr);
+      final String inputStr = this.input.nextLine().substring(0,
+          2).toUpperCase();
+      for (final Action action : actionsArr) {
+        if (action.toString().startsWith(inputStr)) return action;
+      }
+    } catch (Exception e) {
+      System.out.println("Error message: " + e.getMessage());
+    }
+    return canCheck ? Action.CHECK : Action.CALL;
+  }
+
+  @Override
+  public int chooseRaiseSum(final Player player, final Decision decision) {
+    final int raiseSum = decision.getRaiseSum();
+    int newRaiseSum = 0;
+    do {
+      try {
+        System.out.print("Enter raise sum: ");
+        newRaiseSum = Integer.parseInt(this.input.nextLine().trim());
+      } catch (Exception e) {
+        newRaiseSum = raiseSum * 2;
+      }
+    } while (newRaiseSum < raiseSum);
+    return newRaiseSum;
+  }
+}
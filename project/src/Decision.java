@@ -0,0 +1,74 @@
+package src;
+
+import enums.Stat;
+
+public final class Decision {
+  private final BoardStrength boardStrength = new BoardStrength();
+  private int raiseSum;
+  private boolean canCheck;
+  private boolean isPreflop;
+  private long tableMask;
+  private int opponents;
+  private RandomSource random;
+  private OpponentTracker tracker;
+  private int seat;
+  private int aggressor = -1;
+
+  void update(final int raiseSum, final boolean canCheck, final boolean isPreflop,
+      final long tableMask, final int opponents, final RandomSource random) {
+    this.random = random;
+    this.raiseSum = raiseSum;
+    this.canCheck = canCheck;
+    this.isPreflop = isPreflop;
+    this.tableMask = tableMask;
+    this.opponents = opponents;
+  }
+
+  void setTracker(final OpponentTracker tracker) {
+    this.tracker = tracker;
+  }
+
+  void setSeats(final int seat, final int aggressor) {
+    this.seat = seat;
+    this.aggressor = aggressor;
+  }
+
+  public int getRaiseSum() {
+    return this.raiseSum;
+  }
+
+  public boolean canCheck() {
+    return this.canCheck;
+  }
+
+  public boolean isPreflop() {
+    return this.isPreflop;
+  }
+
+  public long getTableMask() {
+    return this.tableMask;
+  }
+
+  public int getOpponents() {
+    return this.opponents;
+  }
+
+  public RandomSource getRandom() {
+    return this.random;
+  }
+
+  public BoardStrength getBoardStrength() {
+    return this.boardStrength;
+  }
+
+  public double getAggressorStat(final Stat stat) {
+    if (this.tracker == null || this.aggressor < 0 || this.aggressor == this.seat) {
+      return Double.NaN;
+    }
+    return this.tracker.getStat(this.aggressor, stat);
+  }
+
+  public double getOpponentsStat(final Stat stat) {
+    return this.tracker == null ? Double.NaN : this.tracker.getOpponentsStat(this.seat, stat);
+  }
+}
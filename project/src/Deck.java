@@ -0,0 +1,31 @@
+package src;
+
+public final class Deck {
+  private final byte[] cards = new byte[Card.DECK_SIZE];
+  private int cursor;
+
+  public Deck() {
+    this.reset();
+  }
+
+  public void reset() {
+    for (int i = 0; i < Card.DECK_SIZE; i++) this.cards[i] = (byte) i;
+    this.cursor = 0;
+  }
+
+  public int remaining() {
+    return Card.DECK_SIZE - this.cursor;
+  }
+
+  public int drawIndex(final RandomSource random) {
+    final int idx = this.cursor + random.nextInt(Card.DECK_SIZE - this.cursor);
+    final byte card = this.cards[idx];
+    this.cards[idx] = this.cards[this.cursor];
+    this.cards[this.cursor++] = card;
+    return card;
+  }
+
+  public Card draw(final RandomSource random) {
+    return Card.of(this.drawIndex(random));
+  }
+}
@@ -0,0 +1,49 @@
+package src;
+
+public final class Equity {
+  private final double win;
+  private final double tie;
+  private final double equity;
+  private final double margin;
+  private final long samples;
+
+  public Equity(final double win, final double tie, final double equity,
+      final double margin, final long samples) {
+    this.win = win;
+    this.tie = tie;
+    this.equity = equity;
+    this.margin = margin;
+    this.samples = samples;
+  }
+
+  public double getWin() {
+    return this.win;
+  }
+
+  public double getTie() {
+    return this.tie;
+  }
+
+  public double getEquity() {
+    return this.equity;
+  }
+
+  public double getLowerBound() {
+    return Math.max(0, this.equity - this.margin);
+  }
+
+  public double getUpperBound() {
+    return Math.min(1, this.equity + this.margin);
+  }
+
+  public long getSamples() {
+    return this.samples;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("equity %.4f [%.4f, %.4f], win %.4f, tie %.4f, %d samples",
+        this.equity, this.getLowerBound(), this.getUpperBound(), this.win,
+        this.tie, this.samples);
+  }
+}
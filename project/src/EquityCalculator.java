@@ -0,0 +1,214 @@
+package src;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+public final class EquityCalculator {
+  public static final int DEFAULT_SAMPLES = 256;
+  public static final long NO_TIMEOUT = 0;
+  private static final int HAND_CARDS = 2;
+  private static final int SAMPLES_PER_TASK = 128;
+  private static final int INLINE_SAMPLES = 1024;
+  private static final int DEADLINE_CHECK_MASK = 63;
+  private static final double Z_SCORE = 1.96;
+  private final ForkJoinPool pool;
+  private final int samples;
+  private final long timeoutNanos;
+  private final int[] cards = new int[Card.DECK_SIZE];
+  private final Tally tally = new Tally();
+
+  public EquityCalculator() {
+    this(DEFAULT_SAMPLES, NO_TIMEOUT);
+  }
+
+  public EquityCalculator(final int samples, final long timeoutNanos) {
+    this(ForkJoinPool.commonPool(), samples, timeoutNanos);
+  }
+
+  public EquityCalculator(final ForkJoinPool pool, final int samples,
+      final long timeoutNanos) {
+    if (samples <= 0) throw new IllegalArgumentException("Samples must be positive");
+    this.pool = pool;
+    this.samples = samples;
+    this.timeoutNanos = timeoutNanos;
+  }
+
+  public Equity calculate(final long handMask, final long tableMask,
+      final int opponents) {
+    return this.calculate(handMask, tableMask, opponents, new RandomSource());
+  }
+
+  public Equity calculate(final long handMask, final long tableMask,
+      final int opponents, final RandomSource random) {
+    validate(handMask, tableMask, opponents);
+    if (opponents == 0) return new Equity(1, 0, 1, 0, 0);
+    final int[] deck = new int[Card.DECK_SIZE - Long.bitCount(handMask | tableMask)];
+    fillDeck(handMask | tableMask, deck);
+    final SamplingTask task = new SamplingTask(handMask, tableMask, opponents, deck,
+        this.samples, this.deadline(), random.split());
+    return (this.samples <= INLINE_SAMPLES ? task.sample() : this.pool.invoke(task))
+        .toEquity();
+  }
+
+  public double getEquity(final long handMask, final long tableMask,
+      final int opponents, final RandomSource random) {
+    if (this.samples > INLINE_SAMPLES) {
+      return this.calculate(handMask, tableMask, opponents, random).getEquity();
+    }
+    validate(handMask, tableMask, opponents);
+    if (opponents == 0) return 1;
+    final int size = fillDeck(handMask | tableMask, this.cards);
+    this.tally.clear();
+    sample(handMask, tableMask, opponents, this.cards, size, this.samples,
+        this.deadline(), random, this.tally);
+    return this.tally.getEquity();
+  }
+
+  private long deadline() {
+    return this.timeoutNanos == NO_TIMEOUT ? Long.MAX_VALUE
+        : System.nanoTime() + this.timeoutNanos;
+  }
+
+  private static void validate(final long handMask, final long tableMask,
+      final int opponents) {
+    final int tableCardsCount = Long.bitCount(tableMask);
+    final int knownCards = Long.bitCount(handMask | tableMask);
+    final int cardsToDraw = GameSession.TABLE_CARDS - tableCardsCount
+        + opponents * HAND_CARDS;
+    if ((handMask & tableMask) != 0 || Long.bitCount(handMask) != HAND_CARDS
+        || tableCardsCount > GameSession.TABLE_CARDS || opponents < 0
+        || cardsToDraw > Card.DECK_SIZE - knownCards) {
+      throw new IllegalArgumentException("Invalid hand, table cards or opponents count");
+    }
+  }
+
+  private static int fillDeck(final long knownMask, final int[] deck) {
+    int size = 0;
+    for (int i = 0; i < Card.DECK_SIZE; i++) {
+      if ((knownMask & (1L << i)) == 0) deck[size++] = i;
+    }
+    return size;
+  }
+
+  private static void sample(final long handMask, final long tableMask,
+      final int opponents, final int[] cards, final int size, final int samples,
+      final long deadline, final RandomSource random, final Tally tally) {
+    final int tableCardsToDraw = GameSession.TABLE_CARDS - Long.bitCount(tableMask);
+    final int cardsToDraw = tableCardsToDraw + opponents * HAND_CARDS;
+    for (int s = 0; s < samples; s++) {
+      if ((s & DEADLINE_CHECK_MASK) == DEADLINE_CHECK_MASK
+          && System.nanoTime() > deadline) break;
+      for (int i = 0; i < cardsToDraw; i++) {
+        final int j = i + random.nextInt(size - i);
+        final int card = cards[j];
+        cards[j] = cards[i];
+        cards[i] = card;
+      }
+      long board = tableMask;
+      for (int i = 0; i < tableCardsToDraw; i++) board |= 1L << cards[i];
+      final int strength = StrengthCache.evaluate(handMask | board);
+      boolean isBeaten = false;
+      int tiedOpponents = 0;
+      for (int i = tableCardsToDraw; i < cardsToDraw && !isBeaten; i += HAND_CARDS) {
+        final long opponentHand = (1L << cards[i]) | (1L << cards[i + 1]);
+        final int opponentStrength = StrengthCache.evaluate(opponentHand | board);
+        if (opponentStrength > strength) isBeaten = true;
+        else if (opponentStrength == strength) tiedOpponents++;
+      }
+      if (isBeaten) tally.add(0, false, false);
+      else if (tiedOpponents > 0) tally.add(1.0 / (tiedOpponents + 1), false, true);
+      else tally.add(1, true, false);
+    }
+  }
+
+  private static final class Tally {
+    private long samples;
+    private long wins;
+    private long ties;
+    private double equitySum;
+    private double equitySquaresSum;
+
+    private void add(final double share, final boolean isWin, final boolean isTie) {
+      this.samples++;
+      if (isWin) this.wins++;
+      if (isTie) this.ties++;
+      this.equitySum += share;
+      this.equitySquaresSum += share * share;
+    }
+
+    private void clear() {
+      this.samples = 0;
+      this.wins = 0;
+      this.ties = 0;
+      this.equitySum = 0;
+      this.equitySquaresSum = 0;
+    }
+
+    private double getEquity() {
+      return this.equitySum / Math.max(1, this.samples);
+    }
+
+    private Tally merge(final Tally other) {
+      this.samples += other.samples;
+      this.wins += other.wins;
+      this.ties += other.ties;
+      this.equitySum += other.equitySum;
+      this.equitySquaresSum += other.equitySquaresSum;
+      return this;
+    }
+
+    private Equity toEquity() {
+      final double count = Math.max(1, this.samples);
+      final double mean = this.equitySum / count;
+      final double variance = Math.max(0, this.equitySquaresSum / count - mean * mean);
+      final double margin = Z_SCORE * Math.sqrt(variance / count);
+      return new Equity(this.wins / count, this.ties / count, mean, margin,
+          this.samples);
+    }
+  }
+
+  private static final class SamplingTask extends RecursiveTask<Tally> {
+    private static final long serialVersionUID = 1L;
+    private final long handMask;
+    private final long tableMask;
+    private final int opponents;
+    private final int[] deck;
+    private final int samples;
+    private final long deadline;
+    private final RandomSource random;
+
+    private SamplingTask(final long handMask, final long tableMask,
+        final int opponents, final int[] deck, final int samples,
+        final long deadline, final RandomSource random) {
+      this.handMask = handMask;
+      this.tableMask = tableMask;
+      this.opponents = opponents;
+      this.deck = deck;
+      this.samples = samples;
+      this.deadline = deadline;
+      this.random = random;
+    }
+
+    @Override
+    protected Tally compute() {
+      if (this.samples <= SAMPLES_PER_TASK) return this.sample();
+      final int half = this.samples / 2;
+      final SamplingTask left = new SamplingTask(this.handMask, this.tableMask,
+          this.opponents, this.deck, half, this.deadline, this.random.split());
+      final SamplingTask right = new SamplingTask(this.handMask, this.tableMask,
+          this.opponents, this.deck, this.samples - half, this.deadline,
+          this.random);
+      left.fork();
+      final Tally rightTally = right.compute();
+      return left.join().merge(rightTally);
+    }
+
+    private Tally sample() {
+      final Tally tally = new Tally();
+      EquityCalculator.sample(this.handMask, this.tableMask, this.opponents,
+          this.deck.clone(), this.deck.length, this.samples, this.deadline, this.random,
+          tally);
+      return tally;
+    }
+  }
+}
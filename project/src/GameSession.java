@@ -1,12 +1,14 @@
 package src;
 
 import java.util.*;
-
-import enums.Combination;
-import staticClasses.*;
+import enums.Phase;
+import metrics.Metrics;
 
 public final class GameSession {
   public static final int PLAYERS_SEATED = 6;
+  public static final int MIN_SEATS = 2;
+  public static final int MAX_SEATS = 10;
+  public static final String SEATS_PROPERTY = "table.seats";
   public static final int MIN_BALANCE = 5000;
   public static final int MAX_BALANCE = 25000;
   public static final int BIG_BLIND_SIZE = 100;
@@ -15,103 +17,172 @@ public final class GameSession {
   public static final int MAX_CALL_NUM = 7;
   public static final int MAX_RAISE_NUM = 20;
   public static final int MAX_CHECK_NUM = 30;
-  private List<Card> deck;
-  private static List<Card> tableCards;
-  private final static Player[] players = new Player[PLAYERS_SEATED];
-  private int handsPlayed;
+  public static final int TABLE_CARDS = 5;
+  private final Deck deck = new Deck();
+  private final Card[] tableCards = new Card[TABLE_CARDS];
+  private final Card[] boardCards = new Card[TABLE_CARDS];
+  private int tableCardsCount;
+  private long tableMask;
+  private final Player[] players;
+  private long handsPlayed;
   private static final String[] ROUNDS = { "Flop", "Turn", "River" };
+  private static final String[] SEAT_NAMES = seatNames();
+  private static final Phase[] ROUND_PHASES = { Phase.FLOP, Phase.TURN, Phase.RIVER };
   public static final int ROUNDS_LENGTH = ROUNDS.length;
-  private final RoundHandler roundHandler = new RoundHandler(players);
-  private final WinnersHandler winnersHandler = new WinnersHandler(players);
+  private final Output output;
+  private final RandomSource tableRandom;
+  private final RandomSource handRandom = new RandomSource(0);
+  private final RoundHandler roundHandler;
+  private final WinnersHandler winnersHandler;
+  private OpponentTracker tracker;
+  private HandListener handListener = HandListener.NONE;
+  private HandListener listener = HandListener.NONE;
 
-  public void start(final int yourBalance, final String nickname) {
-    if (this.handsPlayed == 0) {
-      final int BALANCE_ACCURACY = 5;
-      for (int i = 0; i < PLAYERS_SEATED; i++) {
-        final boolean isUser = i == 0;
-        final int playerBalance = Helpers.randomInRange(MIN_BALANCE, MAX_BALANCE,
-            BALANCE_ACCURACY);
-        final int balance = isUser ? yourBalance : playerBalance;
-        final String name = isUser ? nickname : "Player " + (i + 1);
-        players[i] = new Player(balance, name);
-      }
-    }
-    this.newGame();
+  public GameSession() {
+    this(Output.console());
   }
 
-  private static class InfoLogger {
-    private final static String OLD_SYMBOL = "_";
-    private final static String NEW_SYMBOL = " ";
+  private GameSession(final Output output) {
+    this(output, consoleStrategies(output));
+  }
 
-    public static void presentTableCards() {
-      for (final Card card : tableCards) {
-        System.out.print(card.toString() + " ");
-      }
-      System.out.println();
+  public GameSession(final Output output, final Strategy[] strategies) {
+    this(output, strategies, new RandomSource().getSeed());
+  }
+
+  public GameSession(final Output output, final Strategy[] strategies,
+      final long seed) {
+    if (strategies.length < MIN_SEATS || strategies.length > MAX_SEATS) {
+      throw new IllegalArgumentException("Tables seat " + MIN_SEATS + " to " + MAX_SEATS
+          + " players, got " + strategies.length);
     }
+    this.output = output;
+    this.players = new Player[strategies.length];
+    this.tableRandom = new RandomSource(seed);
+    this.roundHandler = new RoundHandler(players, output, strategies);
+    this.roundHandler.setRandom(this.handRandom);
+    this.winnersHandler = new WinnersHandler(players, output);
+  }
 
-    private static void printCombination(final Combination combination) {
-      final String combinationStr = Helpers.replaceSymbol(combination.toString(),
-          OLD_SYMBOL, NEW_SYMBOL);
-      System.out.println("(" + combinationStr.toLowerCase() + ")");
+  private static Strategy[] consoleStrategies(final Output output) {
+    final Strategy[] strategies = new Strategy[defaultSeats()];
+    strategies[0] = new ConsoleStrategy(output);
+    for (int i = 1; i < strategies.length; i++) {
+      strategies[i] = new BotStrategy(BotStrategy.MIN_DELAY_TIME,
+          BotStrategy.MAX_DELAY_TIME);
     }
+    return strategies;
+  }
+
+  public void start(final int yourBalance, final String nickname) {
+    if (this.handsPlayed == 0) this.seatPlayers(yourBalance, nickname);
+    final Scanner input = new Scanner(System.in);
+    final StopCondition isBust = StopCondition.balanceBelow(players[0]::getBalance, 1);
+    final StopCondition stopped = new HandLoop(this::playHand)
+        .stopWhen(isBust)
+        .stopWhen(StopCondition.requested(() -> this.isQuitRequested(input)))
+        .run();
+    this.output.flush();
+    System.out.println(stopped == isBust ? "Your balance is 0. Game Over!"
+        : "Thank you for playing");
+  }
 
-    private static void presentCombinations() {
-      for (final Player player : players) {
-        if (player.isActive()) {
-          System.out.print(player.getNickname() + " has got ");
-          printHandDescription(player);
-        }
+  void seatPlayers(final int yourBalance, final String nickname) {
+    for (int i = 0; i < players.length; i++) {
+      final boolean isUser = i == 0;
+      final int balance = this.listener.onSeat(i, isUser ? yourBalance
+          : this.randomBalance());
+      final String name = isUser ? nickname : SEAT_NAMES[i];
+      if (players[i] != null && players[i].getNickname().equals(name)) {
+        players[i].rebuy(balance);
+      } else {
+        players[i] = new Player(balance, name);
       }
     }
+  }
 
-    private static void printHandDescription(final Player player) {
-      final List<Card> hand = player.getHand();
-      final String firstHandStr = hand.get(0).toString();
-      final String secondHandStr = hand.get(1).toString();
-      System.out.print(firstHandStr + " and " + secondHandStr);
-      printCombination(player.getCombination());
-    }
+  private static String[] seatNames() {
+    final String[] names = new String[MAX_SEATS];
+    for (int i = 0; i < MAX_SEATS; i++) names[i] = "Player " + (i + 1);
+    return names;
+  }
 
-    private static void printUserCombination() {
-      System.out.print(players[0].getNickname() + ", your hand is ");
-      InfoLogger.printHandDescription(players[0]);
-    }
+  public static int defaultSeats() {
+    return Integer.getInteger(SEATS_PROPERTY, PLAYERS_SEATED);
+  }
+
+  int randomBalance() {
+    final int BALANCE_ACCURACY = 5;
+    return this.tableRandom.inRange(MIN_BALANCE, MAX_BALANCE, BALANCE_ACCURACY);
+  }
+
+  public void setHandListener(final HandListener listener) {
+    this.handListener = listener;
+    this.updateListener();
+  }
+
+  public void setOpponentModel(final OpponentModel model) {
+    this.tracker = model == null ? null : new OpponentTracker(model);
+    this.roundHandler.setOpponentTracker(this.tracker);
+    this.updateListener();
   }
 
-  private void assignCombinations() {
-    List<Combination> combinationsList = Arrays.asList(Combination.values());
-    Collections.reverse(combinationsList);
+  public OpponentModel getOpponentModel() {
+    return this.tracker == null ? null : this.tracker.getModel();
+  }
+
+  private void updateListener() {
+    this.listener = this.tracker == null ? this.handListener
+        : HandListener.all(this.tracker, this.handListener);
+    this.roundHandler.setHandListener(this.listener);
+  }
+
+  public long getTableSeed() {
+    return this.tableRandom.getSeed();
+  }
+
+  public long getHandSeed() {
+    return this.handRandom.getSeed();
+  }
+
+  int playersWithBalance() {
+    int count = 0;
     for (final Player player : players) {
-      if (player.isActive()) {
-        final List<Card> playerHand = new ArrayList<>(player.getHand());
-        playerHand.addAll(tableCards);
-        for (final Combination combination : combinationsList) {
-          if (combination.check(playerHand)) {
-            player.setCombination(combination);
-            break;
-          }
-        }
-      }
+      if (player.getBalance() > 0) count++;
     }
+    return count;
+  }
+
+  long getActionsPlayed() {
+    return this.roundHandler.getActionsPlayed();
   }
 
   private void resetGameData() {
-    for (final Player player : players)
+    for (int i = 0; i < players.length; i++) {
+      final Player player = players[i];
+      final int delta = player.getBalanceDelta();
+      if (delta > 0) this.output.payout(i, player, delta);
       player.resetGameData();
+    }
     this.roundHandler.resetPotSize();
   }
 
+  private void presentCombinations() {
+    for (int i = 0; i < players.length; i++) {
+      if (players[i].isActive()) this.output.showdown(i, players[i]);
+    }
+  }
+
   private void dealHands() {
-    final int CARDS_TO_DEAL = 2;
-    for (int i = 0; i < PLAYERS_SEATED; i++) {
-      players[i].setHand(Cards.deal(this.deck, CARDS_TO_DEAL));
+    for (int i = 0; i < players.length; i++) {
+      players[i].setHand(this.deck.draw(this.handRandom),
+          this.deck.draw(this.handRandom));
     }
   }
 
-  private void endGame() {
-    this.resetGameData();
-    final Scanner input = new Scanner(System.in);
+  private boolean isQuitRequested(final Scanner input) {
+    if (this.handsPlayed == 0) return false;
+    this.output.flush();
     System.out.println("Hands played: " + this.handsPlayed);
     char symbol;
     try {
@@ -120,48 +191,76 @@ public final class GameSession {
     } catch (Exception e) {
       symbol = ' ';
     }
-    if (symbol == 'Q') {
-      System.out.println("Thank you for playing");
-      return;
-    }
-    this.newGame();
+    return symbol == 'Q';
   }
 
   private void handOutCards() {
-    this.deck = Cards.getAll();
-    tableCards = new ArrayList<>();
-    Cards.shuffle(this.deck);
+    this.deck.reset();
+    this.tableCardsCount = 0;
+    this.tableMask = 0L;
+    this.roundHandler.setTableMask(this.tableMask);
     this.dealHands();
+    for (int i = 0; i < TABLE_CARDS; i++) this.boardCards[i] = this.deck.draw(this.handRandom);
   }
 
-  private void newGame() {
-    if (players[0].getBalance() == 0) {
-      System.out.println("Your balance is 0. Game Over!");
-      return;
-    }
+  void playHand() {
+    this.playHand(this.tableRandom.nextLong());
+  }
+
+  void playHand(final long handSeed) {
+    final long handStart = Metrics.start();
+    final long allocatedBefore = Metrics.allocatedBytes();
+    final long actionsBefore = this.getActionsPlayed();
+    this.handRandom.reset(handSeed);
     this.handsPlayed++;
+    final long dealStart = Metrics.start();
     this.handOutCards();
-    this.assignCombinations();
-    InfoLogger.printUserCombination();
+    Metrics.record(Phase.DEAL, dealStart);
+    this.output.deal(0, players[0]);
+    this.listener.onHandStart(handSeed, this.players);
     this.roundHandler.assignPositions(this.handsPlayed);
     this.roundHandler.setPreflop();
-    System.out.println("Preflop: ");
+    this.output.street(this.tableCards, this.tableCardsCount);
+    final long preflopStart = Metrics.start();
     this.roundHandler.handle();
+    Metrics.record(Phase.PREFLOP, preflopStart);
     this.performPostflopRounds();
-    InfoLogger.presentCombinations();
+    if (this.output.isEnabled()) this.presentCombinations();
     this.winnersHandler.setPotSize(roundHandler.getPot());
+    this.winnersHandler.setOddChipSeat(this.roundHandler.getSmallBlindIdx());
+    final long showdownStart = Metrics.start();
     this.winnersHandler.handle();
-    this.endGame();
+    Metrics.record(Phase.SHOWDOWN, showdownStart);
+    this.listener.onHandEnd(this.players, this.roundHandler.getPot());
+    this.resetGameData();
+    Metrics.recordHand(handStart, allocatedBefore,
+        this.getActionsPlayed() - actionsBefore, handSeed);
+  }
+
+  private void dealTableCards(final int count) {
+    long newCardsMask = 0L;
+    for (int i = 0; i < count; i++) {
+      final Card card = this.boardCards[this.tableCardsCount];
+      this.tableCards[this.tableCardsCount++] = card;
+      newCardsMask |= card.getMask();
+    }
+    this.tableMask |= newCardsMask;
+    for (final Player player : this.players) {
+      if (player.isActive()) player.addTableCards(newCardsMask);
+    }
   }
 
   private void performPostflopRounds() {
     for (int i = 0; i < ROUNDS.length; i++) {
-      Helpers.transport(this.deck, tableCards, i == 0 ? 3 : 1);
-      this.assignCombinations();
-      System.out.print(ROUNDS[i] + ": ");
-      InfoLogger.presentTableCards();
-      InfoLogger.printUserCombination();
+      final int newCardsCount = i == 0 ? 3 : 1;
+      this.dealTableCards(newCardsCount);
+      this.listener.onStreet(this.tableCards, this.tableCardsCount, newCardsCount);
+      this.roundHandler.setTableMask(this.tableMask);
+      this.output.street(this.tableCards, this.tableCardsCount);
+      this.output.deal(0, players[0]);
+      final long roundStart = Metrics.start();
       this.roundHandler.handle();
+      Metrics.record(ROUND_PHASES[i], roundStart);
     }
   }
 }
@@ -0,0 +1,67 @@
+package src;
+
+import enums.Action;
+
+public interface HandListener {
+  HandListener NONE = new HandListener() {
+  };
+
+  static HandListener all(final HandListener... listeners) {
+    return new HandListener() {
+      @Override
+      public int onSeat(final int seat, final int balance) {
+        int seated = balance;
+        for (final HandListener listener : listeners) seated = listener.onSeat(seat, seated);
+        return seated;
+      }
+
+      @Override
+      public void onHandStart(final long handSeed, final Player[] players) {
+        for (final HandListener listener : listeners) listener.onHandStart(handSeed, players);
+      }
+
+      @Override
+      public void onBlind(final int seat, final int amount, final boolean isBigBlind) {
+        for (final HandListener listener : listeners) listener.onBlind(seat, amount, isBigBlind);
+      }
+
+      @Override
+      public void onStreet(final Card[] tableCards, final int tableCardsCount,
+          final int newCardsCount) {
+        for (final HandListener listener : listeners) {
+          listener.onStreet(tableCards, tableCardsCount, newCardsCount);
+        }
+      }
+
+      @Override
+      public void onAction(final int seat, final Action action, final int amount) {
+        for (final HandListener listener : listeners) listener.onAction(seat, action, amount);
+      }
+
+      @Override
+      public void onHandEnd(final Player[] players, final int pot) {
+        for (final HandListener listener : listeners) listener.onHandEnd(players, pot);
+      }
+    };
+  }
+
+  default int onSeat(final int seat, final int balance) {
+    return balance;
+  }
+
+  default void onHandStart(final long handSeed, final Player[] players) {
+  }
+
+  default void onBlind(final int seat, final int amount, final boolean isBigBlind) {
+  }
+
+  default void onStreet(final Card[] tableCards, final int tableCardsCount,
+      final int newCardsCount) {
+  }
+
+  default void onAction(final int seat, final Action action, final int amount) {
+  }
+
+  default void onHandEnd(final Player[] players, final int pot) {
+  }
+}
@@ -0,0 +1,68 @@
+package src;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+public final class HandLoop {
+  public static final StopCondition STOP_REQUESTED = loop -> loop.isStopRequested;
+  private final Runnable hand;
+  private final List<StopCondition> conditions = new ArrayList<>();
+  private Consumer<HandLoop> reporter = loop -> {
+  };
+  private long reportIntervalNanos = Long.MAX_VALUE;
+  private long handsPlayed;
+  private long startTime;
+  private volatile boolean isStopRequested;
+
+  public HandLoop(final Runnable hand) {
+    this.hand = hand;
+  }
+
+  public HandLoop stopWhen(final StopCondition condition) {
+    this.conditions.add(condition);
+    return this;
+  }
+
+  public HandLoop reportEvery(final long interval, final TimeUnit unit,
+      final Consumer<HandLoop> reporter) {
+    this.reportIntervalNanos = unit.toNanos(interval);
+    this.reporter = reporter;
+    return this;
+  }
+
+  public StopCondition run() {
+    this.startTime = System.nanoTime();
+    long nextReport = this.startTime + this.reportIntervalNanos;
+    while (true) {
+      final StopCondition stopped = this.stoppedBy();
+      if (stopped != null) return stopped;
+      this.hand.run();
+      this.handsPlayed++;
+      if (System.nanoTime() - nextReport >= 0) {
+        this.reporter.accept(this);
+        nextReport += this.reportIntervalNanos;
+      }
+    }
+  }
+
+  public void requestStop() {
+    this.isStopRequested = true;
+  }
+
+  public long getHandsPlayed() {
+    return this.handsPlayed;
+  }
+
+  public long getElapsedNanos() {
+    return System.nanoTime() - this.startTime;
+  }
+
+  private StopCondition stoppedBy() {
+    if (this.isStopRequested) return STOP_REQUESTED;
+    for (int i = 0; i < this.conditions.size(); i++) {
+      if (this.conditions.get(i).shouldStop(this)) return this.conditions.get(i);
+    }
+    return null;
+  }
+}
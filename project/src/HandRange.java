@@ -0,0 +1,187 @@
+package src;
+
+import java.util.*;
+import enums.*;
+
+public final class HandRange {
+  public static final int COMBOS_COUNT = Card.DECK_SIZE * (Card.DECK_SIZE - 1) / 2;
+  private static final String RANK_LETTERS = "23456789TJQKA";
+  private static final String SUIT_LETTERS = "cdsh";
+  private static final int RANKS_COUNT = Rank.values().length;
+  private static final int SUITS_COUNT = Suit.values().length;
+  private static final long[] COMBOS = new long[COMBOS_COUNT];
+  private final long[] members = new long[(COMBOS_COUNT + Long.SIZE - 1) / Long.SIZE];
+
+  static {
+    for (int second = 1; second < Card.DECK_SIZE; second++) {
+      for (int first = 0; first < second; first++) {
+        COMBOS[comboIndex(first, second)] = 1L << first | 1L << second;
+      }
+    }
+  }
+
+  public static HandRange all() {
+    final HandRange range = new HandRange();
+    for (int i = 0; i < COMBOS_COUNT; i++) range.add(i);
+    return range;
+  }
+
+  public static HandRange of(final long... handMasks) {
+    final HandRange range = new HandRange();
+    for (final long handMask : handMasks) range.add(comboIndex(handMask));
+    return range;
+  }
+
+  public static HandRange parse(final String notation) {
+    final HandRange range = new HandRange();
+    for (final String token : notation.split("[,\\s]+")) {
+      if (!token.isEmpty()) range.addToken(token);
+    }
+    return range;
+  }
+
+  public static long parseCards(final String cards) {
+    long mask = 0L;
+    for (int i = 0; i + 1 < cards.length(); i += 2) mask |= card(cards, i);
+    if (Long.bitCount(mask) * 2 != cards.length()) {
+      throw new IllegalArgumentException("Invalid cards: " + cards);
+    }
+    return mask;
+  }
+
+  public static String formatCards(final long cardsMask) {
+    final StringBuilder sb = new StringBuilder();
+    for (long cards = cardsMask; cards != 0; cards &= cards - 1) {
+      final int card = Long.numberOfTrailingZeros(cards);
+      sb.append(RANK_LETTERS.charAt(card % RANKS_COUNT))
+          .append(SUIT_LETTERS.charAt(card / RANKS_COUNT));
+    }
+    return sb.toString();
+  }
+
+  public static long combo(final int idx) {
+    return COMBOS[idx];
+  }
+
+  public static int comboIndex(final long handMask) {
+    if (Long.bitCount(handMask) != 2) {
+      throw new IllegalArgumentException("Hand must hold exactly two cards");
+    }
+    return comboIndex(Long.numberOfTrailingZeros(handMask),
+        Long.SIZE - 1 - Long.numberOfLeadingZeros(handMask));
+  }
+
+  private static int comboIndex(final int first, final int second) {
+    return second * (second - 1) / 2 + first;
+  }
+
+  public boolean contains(final long handMask) {
+    final int idx = comboIndex(handMask);
+    return (this.members[idx / Long.SIZE] & 1L << idx) != 0;
+  }
+
+  public int size() {
+    int size = 0;
+    for (final long word : this.members) size += Long.bitCount(word);
+    return size;
+  }
+
+  public long[] combos(final long deadMask) {
+    final long[] combos = new long[this.size()];
+    int count = 0;
+    for (int word = 0; word < this.members.length; word++) {
+      for (long bits = this.members[word]; bits != 0; bits &= bits - 1) {
+        final long combo = COMBOS[word * Long.SIZE + Long.numberOfTrailingZeros(bits)];
+        if ((combo & deadMask) == 0) combos[count++] = combo;
+      }
+    }
+    return Arrays.copyOf(combos, count);
+  }
+
+  @Override
+  public String toString() {
+    return this.size() + " combos";
+  }
+
+  private void add(final int idx) {
+    this.members[idx / Long.SIZE] |= 1L << idx;
+  }
+
+  private void addToken(final String token) {
+    final String upperToken = token.toUpperCase();
+    if (upperToken.equals("ANY") || upperToken.equals("RANDOM")) {
+      for (int i = 0; i < COMBOS_COUNT; i++) this.add(i);
+      return;
+    }
+    if (token.length() == 4
+        && SUIT_LETTERS.indexOf(Character.toLowerCase(token.charAt(1))) >= 0) {
+      this.add(comboIndex(card(token, 0) | card(token, 2)));
+      return;
+    }
+    final int dash = token.indexOf('-');
+    if (dash > 0) {
+      final String from = token.substring(0, dash);
+      final String to = token.substring(dash + 1);
+      final int high = rank(from, 0);
+      final int kicker = rank(from, 1);
+      final int toKicker = rank(to, 1);
+      final int kind = kind(from);
+      if (high != rank(to, 0) && !(high == kicker && rank(to, 0) == toKicker)
+          || kind != kind(to)) {
+        throw new IllegalArgumentException("Invalid range: " + token);
+      }
+      final boolean isPairs = high == kicker;
+      for (int r = Math.min(kicker, toKicker); r <= Math.max(kicker, toKicker); r++) {
+        this.addHands(isPairs ? r : high, r, kind);
+      }
+      return;
+    }
+    final boolean isPlus = token.endsWith("+");
+    final String hand = isPlus ? token.substring(0, token.length() - 1) : token;
+    final int high = Math.max(rank(hand, 0), rank(hand, 1));
+    final int kicker = Math.min(rank(hand, 0), rank(hand, 1));
+    final int kind = kind(hand);
+    if (!isPlus) {
+      this.addHands(high, kicker, kind);
+    } else if (high == kicker) {
+      for (int r = high; r < RANKS_COUNT; r++) this.addHands(r, r, kind);
+    } else {
+      for (int r = kicker; r < high; r++) this.addHands(high, r, kind);
+    }
+  }
+
+  private void addHands(final int high, final int low, final int kind) {
+    for (int firstSuit = 0; firstSuit < SUITS_COUNT; firstSuit++) {
+      for (int secondSuit = 0; secondSuit < SUITS_COUNT; secondSuit++) {
+        final boolean isSuited = firstSuit == secondSuit;
+        if (high == low && firstSuit >= secondSuit) continue;
+        if (kind == 's' && !isSuited || kind == 'o' && isSuited) continue;
+        final long handMask = 1L << (firstSuit * RANKS_COUNT + high)
+            | 1L << (secondSuit * RANKS_COUNT + low);
+        if (Long.bitCount(handMask) == 2) this.add(comboIndex(handMask));
+      }
+    }
+  }
+
+  private static int kind(final String hand) {
+    if (hand.length() == 2) return ' ';
+    final char kind = Character.toLowerCase(hand.charAt(2));
+    if (hand.length() != 3 || kind != 's' && kind != 'o') {
+      throw new IllegalArgumentException("Invalid hand: " + hand);
+    }
+    return kind;
+  }
+
+  private static int rank(final String hand, final int idx) {
+    final int rank = idx < hand.length()
+        ? RANK_LETTERS.indexOf(Character.toUpperCase(hand.charAt(idx))) : -1;
+    if (rank < 0) throw new IllegalArgumentException("Invalid hand: " + hand);
+    return rank;
+  }
+
+  private static long card(final String token, final int idx) {
+    final int suit = SUIT_LETTERS.indexOf(Character.toLowerCase(token.charAt(idx + 1)));
+    if (suit < 0) throw new IllegalArgumentException("Invalid card: " + token);
+    return 1L << (suit * RANKS_COUNT + rank(token, idx));
+  }
+}
@@ -2,10 +2,12 @@ package src;
 
 public abstract class Handler {
   protected final Player[] players;
+  protected final Output output;
   protected int pot;
 
-  public Handler(final Player[] players) {
+  public Handler(final Player[] players, final Output output) {
     this.players = players;
+    this.output = output;
   }
 
   public abstract void handle();
@@ -0,0 +1,44 @@
+package src;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class OpponentModel {
+  public static final String WINDOW_PROPERTY = "opponent.window.hands";
+  public static final int DEFAULT_WINDOW_HANDS = 512;
+  private final Map<String, OpponentStats> players = new ConcurrentHashMap<>();
+  private final int windowHands;
+
+  public OpponentModel() {
+    this(Integer.getInteger(WINDOW_PROPERTY, DEFAULT_WINDOW_HANDS));
+  }
+
+  public OpponentModel(final int windowHands) {
+    this.windowHands = windowHands;
+  }
+
+  public OpponentStats get(final Player player) {
+    return this.get(player.getNickname());
+  }
+
+  public OpponentStats get(final String nickname) {
+    final OpponentStats stats = this.players.get(nickname);
+    return stats != null ? stats : this.players.computeIfAbsent(nickname,
+        name -> new OpponentStats(name, this.windowHands));
+  }
+
+  public int size() {
+    return this.players.size();
+  }
+
+  @Override
+  public String toString() {
+    final List<OpponentStats> stats = new ArrayList<>(this.players.values());
+    stats.sort(Comparator.comparing(OpponentStats::getNickname));
+    final StringBuilder sb = new StringBuilder();
+    for (final OpponentStats playerStats : stats) {
+      sb.append(playerStats).append(System.lineSeparator());
+    }
+    return sb.toString();
+  }
+}
@@ -0,0 +1,94 @@
+package src;
+
+import java.util.concurrent.atomic.*;
+import enums.*;
+
+public final class OpponentStats {
+  static final int HANDS = 0;
+  static final int VOLUNTARY = 1;
+  static final int PREFLOP_RAISES = 2;
+  static final int RAISES = 3;
+  static final int CALLS = 4;
+  static final int FACED_RAISES = 5;
+  static final int FOLDS_TO_RAISE = 6;
+  static final int SHOWDOWNS = 7;
+  static final int SHOWDOWN_STRENGTH = 8;
+  private static final int COUNTERS = 9;
+  private static final int BUCKETS = 8;
+  private static final double PRIOR_WEIGHT = 10;
+  private static final int[] NUMERATORS = { VOLUNTARY, PREFLOP_RAISES, RAISES,
+      FOLDS_TO_RAISE, SHOWDOWN_STRENGTH };
+  private static final int[] DENOMINATORS = { HANDS, HANDS, CALLS, FACED_RAISES, SHOWDOWNS };
+  private static final double[] PRIORS = { 0.25, 0.15, 1.0, 0.5, Combination.PAIR.ordinal() };
+  private final String nickname;
+  private final LongAdder[] lifetime = new LongAdder[COUNTERS];
+  private final AtomicLongArray window = new AtomicLongArray(BUCKETS * COUNTERS);
+  private final AtomicLong hands = new AtomicLong();
+  private final int bucketHands;
+
+  OpponentStats(final String nickname, final int windowHands) {
+    this.nickname = nickname;
+    this.bucketHands = Math.max(1, windowHands / BUCKETS);
+    for (int i = 0; i < COUNTERS; i++) this.lifetime[i] = new LongAdder();
+  }
+
+  public String getNickname() {
+    return this.nickname;
+  }
+
+  public long getHands() {
+    return this.hands.get();
+  }
+
+  public double get(final Stat stat) {
+    final int idx = stat.ordinal();
+    return smooth(this.lifetime[NUMERATORS[idx]].sum(),
+        this.lifetime[DENOMINATORS[idx]].sum(), PRIORS[idx]);
+  }
+
+  public double getWindowed(final Stat stat) {
+    final int idx = stat.ordinal();
+    long numerator = 0;
+    long denominator = 0;
+    for (int bucket = 0; bucket < BUCKETS; bucket++) {
+      numerator += this.window.getOpaque(bucket * COUNTERS + NUMERATORS[idx]);
+      denominator += this.window.getOpaque(bucket * COUNTERS + DENOMINATORS[idx]);
+    }
+    return smooth(numerator, denominator, PRIORS[idx]);
+  }
+
+  void startHand() {
+    final long hand = this.hands.getAndIncrement();
+    if (hand % this.bucketHands == 0) {
+      final int offset = this.bucket(hand) * COUNTERS;
+      for (int i = 0; i < COUNTERS; i++) this.window.setOpaque(offset + i, 0L);
+    }
+    this.add(HANDS, 1);
+  }
+
+  void add(final int counter, final int amount) {
+    this.lifetime[counter].add(amount);
+    final long hand = Math.max(1L, this.hands.getOpaque()) - 1;
+    this.window.getAndAdd(this.bucket(hand) * COUNTERS + counter, amount);
+  }
+
+  private int bucket(final long hand) {
+    return (int) (hand / this.bucketHands % BUCKETS);
+  }
+
+  private static double smooth(final long numerator, final long denominator,
+      final double prior) {
+    return (numerator + prior * PRIOR_WEIGHT) / (denominator + PRIOR_WEIGHT);
+  }
+
+  @Override
+  public String toString() {
+    final StringBuilder sb = new StringBuilder(this.nickname).append(": ")
+        .append(this.getHands()).append(" hands");
+    for (final Stat stat : Stat.values()) {
+      sb.append(String.format(", %s %.2f/%.2f", stat, this.get(stat),
+          this.getWindowed(stat)));
+    }
+    return sb.toString();
+  }
+}
@@ -0,0 +1,103 @@
+package src;
+
+import enums.*;
+
+final class OpponentTracker implements HandListener {
+  private static final Stat[] STATS = Stat.values();
+  private final OpponentModel model;
+  private final OpponentStats[] stats = new OpponentStats[GameSession.MAX_SEATS];
+  private final double[][] snapshot = new double[GameSession.MAX_SEATS][STATS.length];
+  private final boolean[] isSeated = new boolean[GameSession.MAX_SEATS];
+  private final boolean[] isVoluntary = new boolean[GameSession.MAX_SEATS];
+  private final boolean[] isPreflopRaise = new boolean[GameSession.MAX_SEATS];
+  private Player[] players;
+  private boolean isPreflop;
+  private boolean isRaised;
+
+  OpponentTracker(final OpponentModel model) {
+    this.model = model;
+  }
+
+  OpponentModel getModel() {
+    return this.model;
+  }
+
+  double getStat(final int seat, final Stat stat) {
+    return this.isSeated[seat] ? this.snapshot[seat][stat.ordinal()] : Double.NaN;
+  }
+
+  double getOpponentsStat(final int seat, final Stat stat) {
+    double total = 0;
+    int count = 0;
+    for (int i = 0; i < this.players.length; i++) {
+      if (i == seat || !this.isSeated[i] || !this.players[i].isActive()) continue;
+      total += this.snapshot[i][stat.ordinal()];
+      count++;
+    }
+    return count == 0 ? Double.NaN : total / count;
+  }
+
+  @Override
+  public void onHandStart(final long handSeed, final Player[] players) {
+    this.players = players;
+    this.isPreflop = true;
+    this.isRaised = false;
+    for (int seat = 0; seat < players.length; seat++) {
+      this.stats[seat] = this.model.get(players[seat]);
+      this.isSeated[seat] = players[seat].getBalance() > 0;
+      this.isVoluntary[seat] = false;
+      this.isPreflopRaise[seat] = false;
+      if (!this.isSeated[seat]) continue;
+      for (final Stat stat : STATS) {
+        this.snapshot[seat][stat.ordinal()] = this.stats[seat].getWindowed(stat);
+      }
+      this.stats[seat].startHand();
+    }
+  }
+
+  @Override
+  public void onStreet(final Card[] tableCards, final int tableCardsCount,
+      final int newCardsCount) {
+    this.isPreflop = false;
+    this.isRaised = false;
+  }
+
+  @Override
+  public void onAction(final int seat, final Action action, final int amount) {
+    final OpponentStats stats = this.stats[seat];
+    if (this.isRaised) {
+      stats.add(OpponentStats.FACED_RAISES, 1);
+      if (action == Action.FOLD) stats.add(OpponentStats.FOLDS_TO_RAISE, 1);
+    }
+    if (action == Action.RAISE) {
+      stats.add(OpponentStats.RAISES, 1);
+      this.isRaised = true;
+    } else if (action == Action.CALL) {
+      stats.add(OpponentStats.CALLS, 1);
+    }
+    if (!this.isPreflop || action == Action.FOLD || action == Action.CHECK) return;
+    if (!this.isVoluntary[seat]) {
+      this.isVoluntary[seat] = true;
+      stats.add(OpponentStats.VOLUNTARY, 1);
+    }
+    if (action == Action.RAISE && !this.isPreflopRaise[seat]) {
+      this.isPreflopRaise[seat] = true;
+      stats.add(OpponentStats.PREFLOP_RAISES, 1);
+    }
+  }
+
+  @Override
+  public void onHandEnd(final Player[] players, final int pot) {
+    int showdownCount = 0;
+    for (int seat = 0; seat < players.length; seat++) {
+      if (this.isSeated[seat] && players[seat].isActive()) showdownCount++;
+    }
+    if (showdownCount < 2) return;
+    for (int seat = 0; seat < players.length; seat++) {
+      if (!this.isSeated[seat] || !players[seat].isActive()) continue;
+      this.stats[seat].add(OpponentStats.SHOWDOWNS, 1);
+      this.stats[seat].add(OpponentStats.SHOWDOWN_STRENGTH,
+          players[seat].getCombination().ordinal());
+    }
+  }
+}
@@ -0,0 +1,83 @@
+package src;
+
+import enums.*;
+import events.*;
+
+public final class Output {
+  public static final Output SILENT = new Output(null);
+  private final EventBus bus;
+
+  public Output(final EventBus bus) {
+    this.bus = bus;
+  }
+
+  public static Output console() {
+    final EventBus bus = new EventBus();
+    bus.subscribe(new ConsoleRenderer(System.out), true);
+    bus.start();
+    return new Output(bus);
+  }
+
+  public boolean isEnabled() {
+    return this.bus != null;
+  }
+
+  public void deal(final int seat, final Player player) {
+    if (this.bus == null) return;
+    this.publishHand(EventType.DEAL, seat, player);
+  }
+
+  public void street(final Card[] tableCards, final int tableCardsCount) {
+    if (this.bus == null) return;
+    final GameEvent event = this.bus.claim(EventType.STREET);
+    for (int i = 0; i < tableCardsCount; i++) event.addCard(tableCards[i]);
+    this.bus.publish();
+  }
+
+  public void skip(final int seat, final Player player) {
+    if (this.bus == null) return;
+    this.bus.claim(EventType.SKIP).setPlayer(seat, player);
+    this.bus.publish();
+  }
+
+  public void action(final int seat, final Player player, final Action action,
+      final int amount) {
+    if (this.bus == null) return;
+    final GameEvent event = this.bus.claim(EventType.ACTION);
+    event.setPlayer(seat, player);
+    event.setAction(action, amount);
+    this.bus.publish();
+  }
+
+  public void pot(final int pot) {
+    if (this.bus == null) return;
+    this.bus.claim(EventType.POT).setAmount(pot);
+    this.bus.publish();
+  }
+
+  public void showdown(final int seat, final Player player) {
+    if (this.bus == null) return;
+    this.publishHand(EventType.SHOWDOWN, seat, player);
+  }
+
+  public void payout(final int seat, final Player player, final int amount) {
+    if (this.bus == null) return;
+    final GameEvent event = this.bus.claim(EventType.PAYOUT);
+    event.setPlayer(seat, player);
+    event.setAmount(amount);
+    this.bus.publish();
+  }
+
+  public void flush() {
+    if (this.bus != null) this.bus.flush();
+  }
+
+  private void publishHand(final EventType type, final int seat, final Player player) {
+    final GameEvent event = this.bus.claim(type);
+    event.setPlayer(seat, player);
+    event.addCard(player.getCard(0));
+    event.addCard(player.getCard(1));
+    event.setStrength(player.getStrength());
+    this.bus.publish();
+  }
+}
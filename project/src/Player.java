@@ -1,19 +1,21 @@
 package src;
 
-import java.util.*;
-
 import enums.Action;
 import enums.Combination;
+import staticClasses.HandEvaluator;
 
 public final class Player {
   private final String nickname;
   private int balance;
   private int initialBalance;
-  private List<Card> hand;
+  private final Card[] hand = new Card[2];
+  private long handMask;
+  private long cardsMask;
   private boolean isBigBlind = false;
   private boolean didFold = false;
-  private boolean isResolved = false;
   private Combination combination = Combination.HIGH_CARD;
+  private int strength;
+  private boolean isEvaluated;
   private int roundMoneyInPot;
   private int moneyInPot;
 
@@ -23,8 +25,12 @@ public final class Player {
     this.nickname = nickname;
   }
 
-  public void setHand(final List<Card> hand) {
-    this.hand = hand;
+  public void setHand(final Card first, final Card second) {
+    this.hand[0] = first;
+    this.hand[1] = second;
+    this.handMask = first.getMask() | second.getMask();
+    this.cardsMask = this.handMask;
+    this.isEvaluated = false;
   }
 
   public boolean canCheck(final int currRaiseSum, final boolean isPreflop) {
@@ -47,39 +53,62 @@ public final class Player {
     return this.nickname;
   }
 
-  public List<Card> getHand() {
-    return this.hand;
+  public Card getCard(final int idx) {
+    return this.hand[idx];
+  }
+
+  public long getHandMask() {
+    return this.handMask;
+  }
+
+  public void addTableCards(final long tableCardsMask) {
+    this.cardsMask |= tableCardsMask;
+    this.isEvaluated = false;
   }
 
   public Combination getCombination() {
+    this.evaluate();
     return this.combination;
   }
 
+  public int getStrength() {
+    this.evaluate();
+    return this.strength;
+  }
+
+  private void evaluate() {
+    if (this.isEvaluated) return;
+    this.strength = HandEvaluator.evaluate(this.cardsMask);
+    this.combination = Combination.of(this.strength);
+    this.isEvaluated = true;
+  }
+
   public boolean isBigBlind() {
     return this.isBigBlind;
   }
 
-  public boolean isUnresolved() {
-    return !this.isResolved;
+  public int setBigBlind() {
+    if (this.isBigBlind) return 0;
+    this.isBigBlind = true;
+    return this.postBlind(GameSession.BIG_BLIND_SIZE);
   }
 
-  public void setBigBlind() {
-    if (!this.isBigBlind) {
-      this.isBigBlind = true;
-      this.balance -= GameSession.BIG_BLIND_SIZE;
-      this.roundMoneyInPot += GameSession.BIG_BLIND_SIZE;
-    }
+  public int setSmallBlind() {
+    if (this.isBigBlind) return 0;
+    return this.postBlind(GameSession.SMALL_BLIND_SIZE);
   }
 
-  public void setSmallBlind() {
-    if (!this.isBigBlind) {
-      this.balance -= GameSession.SMALL_BLIND_SIZE;
-      this.roundMoneyInPot += GameSession.SMALL_BLIND_SIZE;
-    }
+  private int postBlind(final int blindSize) {
+    final int blind = Math.min(this.balance, blindSize);
+    this.balance -= blind;
+    this.roundMoneyInPot += blind;
+    return blind;
   }
 
-  public void setCombination(final Combination combination) {
-    this.combination = combination;
+  public void setStrength(final int strength) {
+    this.strength = strength;
+    this.combination = Combination.of(strength);
+    this.isEvaluated = true;
   }
 
   public void changeBalance(final int delta) {
@@ -91,45 +120,34 @@ public final class Player {
     this.roundMoneyInPot = 0;
   }
 
-  public void setResolved() {
-    this.isResolved = true;
-  }
-
   public int putMoneyInPot(final int raiseSum, final Action action) {
-    final boolean isRaise = action == Action.RAISE;
-    if (action != Action.CALL && !isRaise) return 0;
+    if (action != Action.CALL && action != Action.RAISE) return 0;
     final int diff = Math.min(this.balance, raiseSum - this.roundMoneyInPot);
     this.balance -= diff;
     this.roundMoneyInPot += diff;
-    final String allInStr = this.balance == 0 ? " (all in) " : "";
-    final String actionStr = isRaise ? " raised to " + String.valueOf(raiseSum) + allInStr : " called " + diff;
-    System.out.println(this.nickname + actionStr + ", balance: "
-        + this.balance);
     return diff;
   }
 
   public void fold() {
     this.didFold = true;
-    System.out.println(this.nickname + " folded, balance: " + this.balance);
   }
 
-  public void check() {
-    final String bigBlindStr = this.isBigBlind ? " (big blind) " : " ";
-    System.out.println(this.nickname + bigBlindStr + "checked, balance: " +
-        this.balance);
+  public int getBalanceDelta() {
+    return this.balance - this.initialBalance;
+  }
+
+  void rebuy(final int balance) {
+    this.balance = balance;
+    this.resetGameData();
   }
 
   public void resetGameData() {
-    final int delta = this.balance - this.initialBalance;
-    if (delta > 0) {
-      System.out.println(this.nickname + " won " + delta + ", new balance: " +
-          this.balance);
-    }
     this.isBigBlind = false;
-    this.isResolved = false;
     this.initialBalance = this.balance;
     this.didFold = this.initialBalance == 0;
     this.combination = Combination.HIGH_CARD;
+    this.strength = 0;
+    this.isEvaluated = false;
     this.roundMoneyInPot = 0;
     this.moneyInPot = 0;
   }
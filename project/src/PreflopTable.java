@@ -0,0 +1,120 @@
+package src;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.file.*;
+import java.util.concurrent.*;
+import staticClasses.*;
+
+public final class PreflopTable {
+  public static final int MAX_OPPONENTS = 9;
+  public static final int HANDS_COUNT = HandEvaluator.RANKS_COUNT * HandEvaluator.RANKS_COUNT;
+  public static final String PATH_PROPERTY = "preflop.table";
+  public static final String DEFAULT_PATH = "assets/preflop-equity.bin";
+  private static final int MAGIC = 0x50464551;
+  private static final int VERSION = 1;
+  private static final int HEADER_SIZE = 16;
+  private static final double SCALE = Character.MAX_VALUE;
+  private static volatile PreflopTable defaultTable;
+  private static volatile boolean isDefaultLoaded;
+  private final ByteBuffer equities;
+
+  private PreflopTable(final ByteBuffer equities) {
+    this.equities = equities;
+  }
+
+  public static PreflopTable load(final Path path) throws IOException {
+    return of(Assets.map(path), path.toString());
+  }
+
+  private static PreflopTable of(final ByteBuffer buffer, final String source)
+      throws IOException {
+    buffer.order(ByteOrder.LITTLE_ENDIAN);
+    final int expectedSize = HEADER_SIZE + HANDS_COUNT * MAX_OPPONENTS * Character.BYTES;
+    if (buffer.capacity() != expectedSize || buffer.getInt(0) != MAGIC
+        || buffer.getInt(Integer.BYTES) != VERSION) {
+      throw new IOException("Not a preflop equity table: " + source);
+    }
+    return new PreflopTable(buffer);
+  }
+
+  public static PreflopTable getDefault() {
+    if (!isDefaultLoaded) {
+      synchronized (PreflopTable.class) {
+        if (!isDefaultLoaded) {
+          try {
+            defaultTable = of(Assets.load(PATH_PROPERTY, DEFAULT_PATH), DEFAULT_PATH);
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+          isDefaultLoaded = true;
+        }
+      }
+    }
+    return defaultTable;
+  }
+
+  public static int handIndex(final long handMask) {
+    final int first = Long.numberOfTrailingZeros(handMask);
+    final int second = Long.SIZE - 1 - Long.numberOfLeadingZeros(handMask);
+    final int firstRank = first % HandEvaluator.RANKS_COUNT;
+    final int secondRank = second % HandEvaluator.RANKS_COUNT;
+    final int high = Math.max(firstRank, secondRank);
+    final int low = Math.min(firstRank, secondRank);
+    final boolean isSuited = first / HandEvaluator.RANKS_COUNT
+        == second / HandEvaluator.RANKS_COUNT;
+    return isSuited ? high * HandEvaluator.RANKS_COUNT + low
+        : low * HandEvaluator.RANKS_COUNT + high;
+  }
+
+  public double getEquity(final long handMask, final int opponents) {
+    return this.getEquity(handIndex(handMask), opponents);
+  }
+
+  public double getEquity(final int handIdx, final int opponents) {
+    return this.equities.getChar(offset(handIdx, opponents)) / SCALE;
+  }
+
+  public static void generate(final Path path, final int samples, final long seed)
+      throws IOException, InterruptedException, ExecutionException {
+    final EquityCalculator calculator = new EquityCalculator(samples,
+        EquityCalculator.NO_TIMEOUT);
+    final ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE
+        + HANDS_COUNT * MAX_OPPONENTS * Character.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+    buffer.putInt(MAGIC).putInt(VERSION).putInt(HANDS_COUNT).putInt(MAX_OPPONENTS);
+    final RandomSource seeds = new RandomSource(seed);
+    final ExecutorService executor = Executors.newFixedThreadPool(
+        Runtime.getRuntime().availableProcessors());
+    try {
+      final Future<?>[] futures = new Future<?>[HANDS_COUNT * MAX_OPPONENTS];
+      for (int handIdx = 0; handIdx < HANDS_COUNT; handIdx++) {
+        final long handMask = representative(handIdx);
+        for (int opponents = 1; opponents <= MAX_OPPONENTS; opponents++) {
+          final int offset = offset(handIdx, opponents);
+          final int opponentsCount = opponents;
+          final RandomSource random = seeds.split();
+          futures[(offset - HEADER_SIZE) / Character.BYTES] = executor.submit(() -> {
+            final Equity equity = calculator.calculate(handMask, 0L, opponentsCount, random);
+            buffer.putChar(offset, (char) Math.round(equity.getEquity() * SCALE));
+          });
+        }
+      }
+      for (final Future<?> future : futures) future.get();
+    } finally {
+      executor.shutdown();
+    }
+    Files.write(path, buffer.array());
+  }
+
+  private static long representative(final int handIdx) {
+    final int row = handIdx / HandEvaluator.RANKS_COUNT;
+    final int column = handIdx % HandEvaluator.RANKS_COUNT;
+    final boolean isSuited = row > column;
+    final int secondSuit = isSuited ? 0 : 1;
+    return (1L << row) | (1L << (secondSuit * HandEvaluator.RANKS_COUNT + column));
+  }
+
+  private static int offset(final int handIdx, final int opponents) {
+    return HEADER_SIZE + (handIdx * MAX_OPPONENTS + opponents - 1) * Character.BYTES;
+  }
+}
@@ -0,0 +1,90 @@
+package src;
+
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+
+public final class RandomSource {
+  private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+  private long seed;
+  private long state;
+  private long gamma;
+
+  public RandomSource() {
+    this(ThreadLocalRandom.current().nextLong());
+  }
+
+  public RandomSource(final long seed) {
+    this.reset(seed);
+  }
+
+  private RandomSource(final long state, final long gamma) {
+    this.state = state;
+    this.gamma = gamma;
+  }
+
+  public void reset(final long seed) {
+    this.seed = seed;
+    this.state = seed;
+    this.gamma = GOLDEN_GAMMA;
+  }
+
+  public long getSeed() {
+    return this.seed;
+  }
+
+  public RandomSource split() {
+    return new RandomSource(this.nextLong(), mixGamma(this.nextState()));
+  }
+
+  public long nextLong() {
+    return mix64(this.nextState());
+  }
+
+  public int nextInt(final int bound) {
+    int random = mix32(this.nextState());
+    final int mask = bound - 1;
+    if ((bound & mask) == 0) return random & mask;
+    for (int u = random >>> 1; u + mask - (random = u % bound) < 0;
+        u = mix32(this.nextState()) >>> 1) {
+    }
+    return random;
+  }
+
+  public int inRange(final int start, final int end) {
+    return start + this.nextInt(end - start + 1);
+  }
+
+  public int inRange(final int start, final int end, final int accuracy) {
+    final int randomNum = this.inRange(start, end);
+    return randomNum - randomNum % accuracy;
+  }
+
+  public <T> void shuffle(final List<T> list) {
+    for (int i = list.size() - 1; i > 0; i--) {
+      Collections.swap(list, i, this.nextInt(i + 1));
+    }
+  }
+
+  private long nextState() {
+    return this.state += this.gamma;
+  }
+
+  private static long mix64(final long state) {
+    long z = (state ^ (state >>> 30)) * 0xbf58476d1ce4e5b9L;
+    z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+    return z ^ (z >>> 31);
+  }
+
+  private static int mix32(final long state) {
+    final long z = (state ^ (state >>> 33)) * 0x62a9d9ed799705f5L;
+    return (int) (((z ^ (z >>> 28)) * 0xcb24d0a5c88c35b3L) >>> 32);
+  }
+
+  private static long mixGamma(final long state) {
+    long z = (state ^ (state >>> 33)) * 0xff51afd7ed558ccdL;
+    z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+    z = (z ^ (z >>> 33)) | 1L;
+    final int transitions = Long.bitCount(z ^ (z >>> 1));
+    return transitions < 24 ? z ^ 0xaaaaaaaaaaaaaaaaL : z;
+  }
+}
@@ -0,0 +1,146 @@
+package src;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+public final class RangeEquity {
+  private static final int BLOCKED = BatchEvaluator.BLOCKED;
+  private final ForkJoinPool pool;
+
+  public RangeEquity() {
+    this(ForkJoinPool.commonPool());
+  }
+
+  public RangeEquity(final ForkJoinPool pool) {
+    this.pool = pool;
+  }
+
+  public Equity calculate(final HandRange hero, final HandRange villain,
+      final long tableMask) {
+    final int cardsToDeal = GameSession.TABLE_CARDS - Long.bitCount(tableMask);
+    if (cardsToDeal < 0) throw new IllegalArgumentException("Too many table cards");
+    final long[] heroCombos = hero.combos(tableMask);
+    final long[] villainCombos = villain.combos(tableMask);
+    final int[][] matchups = new int[heroCombos.length][];
+    final int[] compatible = new int[villainCombos.length];
+    long pairs = 0;
+    for (int h = 0; h < heroCombos.length; h++) {
+      int count = 0;
+      for (int v = 0; v < villainCombos.length; v++) {
+        if ((heroCombos[h] & villainCombos[v]) == 0) compatible[count++] = v;
+      }
+      matchups[h] = Arrays.copyOf(compatible, count);
+      pairs += count;
+    }
+    if (pairs == 0) throw new IllegalArgumentException("Ranges have no compatible combos");
+    final int[] deck = new int[Card.DECK_SIZE - Long.bitCount(tableMask)];
+    int size = 0;
+    for (int i = 0; i < Card.DECK_SIZE; i++) {
+      if ((tableMask & (1L << i)) == 0) deck[size++] = i;
+    }
+    final Runouts runouts = new Runouts(heroCombos, villainCombos, matchups, deck,
+        tableMask, cardsToDeal);
+    final long[] tally = cardsToDeal == 0 ? runouts.enumerate(0, 0)
+        : this.pool.invoke(new RunoutTask(runouts, 0, deck.length - cardsToDeal + 1));
+    final double total = tally[2];
+    return new Equity(tally[0] / total, tally[1] / total,
+        (tally[0] + tally[1] / 2.0) / total, 0, tally[2]);
+  }
+
+  private static final class Runouts {
+    private final long[] heroCombos;
+    private final long[] villainCombos;
+    private final int[][] matchups;
+    private final int[] deck;
+    private final long tableMask;
+    private final int cardsToDeal;
+
+    private Runouts(final long[] heroCombos, final long[] villainCombos,
+        final int[][] matchups, final int[] deck, final long tableMask,
+        final int cardsToDeal) {
+      this.heroCombos = heroCombos;
+      this.villainCombos = villainCombos;
+      this.matchups = matchups;
+      this.deck = deck;
+      this.tableMask = tableMask;
+      this.cardsToDeal = cardsToDeal;
+    }
+
+    private long[] enumerate(final int from, final int to) {
+      final long[] tally = new long[3];
+      final int[] heroStrengths = new int[this.heroCombos.length];
+      final int[] villainStrengths = new int[this.villainCombos.length];
+      final BatchEvaluator evaluator = new BatchEvaluator();
+      if (this.cardsToDeal == 0) {
+        this.compare(evaluator, this.tableMask, heroStrengths, villainStrengths, tally);
+        return tally;
+      }
+      for (int first = from; first < to; first++) {
+        this.enumerate(evaluator, first + 1, this.cardsToDeal - 1,
+            this.tableMask | 1L << this.deck[first], heroStrengths, villainStrengths, tally);
+      }
+      return tally;
+    }
+
+    private void enumerate(final BatchEvaluator evaluator, final int start,
+        final int remaining, final long board, final int[] heroStrengths,
+        final int[] villainStrengths, final long[] tally) {
+      if (remaining == 0) {
+        this.compare(evaluator, board, heroStrengths, villainStrengths, tally);
+        return;
+      }
+      for (int i = start; i <= this.deck.length - remaining; i++) {
+        this.enumerate(evaluator, i + 1, remaining - 1, board | 1L << this.deck[i],
+            heroStrengths, villainStrengths, tally);
+      }
+    }
+
+    private void compare(final BatchEvaluator evaluator, final long board,
+        final int[] heroStrengths, final int[] villainStrengths, final long[] tally) {
+      evaluator.evaluate(this.heroCombos, board, heroStrengths);
+      evaluator.evaluate(this.villainCombos, board, villainStrengths);
+      long wins = 0;
+      long ties = 0;
+      long total = 0;
+      for (int h = 0; h < heroStrengths.length; h++) {
+        final int strength = heroStrengths[h];
+        if (strength == BLOCKED) continue;
+        for (final int v : this.matchups[h]) {
+          final int villainStrength = villainStrengths[v];
+          if (villainStrength == BLOCKED) continue;
+          if (strength > villainStrength) wins++;
+          else if (strength == villainStrength) ties++;
+          total++;
+        }
+      }
+      tally[0] += wins;
+      tally[1] += ties;
+      tally[2] += total;
+    }
+  }
+
+  private static final class RunoutTask extends RecursiveTask<long[]> {
+    private static final long serialVersionUID = 1L;
+    private final Runouts runouts;
+    private final int from;
+    private final int to;
+
+    private RunoutTask(final Runouts runouts, final int from, final int to) {
+      this.runouts = runouts;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected long[] compute() {
+      if (this.to - this.from == 1) return this.runouts.enumerate(this.from, this.to);
+      final int middle = (this.from + this.to) >>> 1;
+      final RunoutTask left = new RunoutTask(this.runouts, this.from, middle);
+      left.fork();
+      final long[] right = new RunoutTask(this.runouts, middle, this.to).compute();
+      final long[] tally = left.join();
+      for (int i = 0; i < tally.length; i++) tally[i] += right[i];
+      return tally;
+    }
+  }
+}
@@ -3,172 +3,215 @@ package src;
 import java.util.*;
 import java.util.function.*;
 import enums.Action;
-import staticClasses.Helpers;
+import enums.Phase;
+import metrics.Metrics;
 
 public class RoundHandler extends Handler {
   private int raiseSum = 100;
-  private int playersPlayed;
-  private final HashMap<Action, Consumer<Player>> actions = new HashMap<>(Action.values().length);
+  private int remainingSeats;
+  private final int[] nextLive;
+  private final int[] prevLive;
+  private final boolean[] isLive;
+  private int liveCount;
+  private int activeCount;
+  private final HashMap<Action, IntConsumer> actions = new HashMap<>(Action.values().length);
+  private final Strategy[] strategies;
+  private final Decision decision = new Decision();
   private boolean isPreflop = true;
+  private int smallBlindIdx;
   private int bigBlindIdx;
+  private int aggressorIdx = -1;
+  private long tableMask;
+  private RandomSource random;
+  private HandListener listener = HandListener.NONE;
+  private long actionsPlayed;
 
-  public RoundHandler(final Player[] players) {
-    super(players);
-    this.pot = GameSession.BIG_BLIND_SIZE + GameSession.SMALL_BLIND_SIZE;
-    this.actions.put(Action.FOLD, Player::fold);
-    this.actions.put(Action.CALL, (player) -> this.pot += player.putMoneyInPot(this.raiseSum,
-        Action.CALL));
-    this.actions.put(Action.RAISE, (player) -> handleRaiseAction(player));
-    this.actions.put(Action.CHECK, Player::check);
+  public RoundHandler(final Player[] players, final Output output,
+      final Strategy[] strategies) {
+    super(players, output);
+    this.strategies = strategies;
+    this.nextLive = new int[players.length];
+    this.prevLive = new int[players.length];
+    this.isLive = new boolean[players.length];
+    this.actions.put(Action.FOLD, this::handleFoldAction);
+    this.actions.put(Action.CALL, this::handleCallAction);
+    this.actions.put(Action.RAISE, this::handleRaiseAction);
+    this.actions.put(Action.CHECK, this::handleCheckAction);
   }
 
   public int getPot() {
     return this.pot;
   }
 
+  public int getSmallBlindIdx() {
+    return this.smallBlindIdx;
+  }
+
+  public long getActionsPlayed() {
+    return this.actionsPlayed;
+  }
+
+  public void setTableMask(final long tableMask) {
+    this.tableMask = tableMask;
+  }
+
   public void resetPotSize() {
-    this.pot = GameSession.BIG_BLIND_SIZE + GameSession.SMALL_BLIND_SIZE;
+    this.pot = 0;
   }
 
   public void handle() {
-    final boolean isLastPlayerBigBlind = this.bigBlindIdx == GameSession.PLAYERS_SEATED - 1;
-    int currIdx = isLastPlayerBigBlind ? 0 : this.bigBlindIdx + 1;
-    while (this.playersPlayed++ < GameSession.PLAYERS_SEATED) {
-      final Player player = players[currIdx];
-      final int balance = player.getBalance();
-      if (player.isActive()) {
-        if (balance == 0) {
-          System.out.println(player.getNickname() + " went all in");
-        } else {
-          if (currIdx == 0) makeUserTurn(player);
-          else handlePlayerAction(player);
-        }
-      } else {
-        final String zeroBalanceStr = balance == 0 ? " sit out" : " folded";
-        System.out.println(player.getNickname() + zeroBalanceStr);
-      }
-      if (++currIdx == GameSession.PLAYERS_SEATED) currIdx = 0;
+    final int seats = players.length;
+    int currIdx = this.bigBlindIdx == seats - 1 ? 0 : this.bigBlindIdx + 1;
+    int nextIdx = this.firstLiveSeat(currIdx);
+    this.remainingSeats = seats;
+    while (nextIdx >= 0) {
+      final int distance = nextIdx >= currIdx ? nextIdx - currIdx : nextIdx - currIdx + seats;
+      if (distance >= this.remainingSeats) break;
+      this.skipSeats(currIdx, distance);
+      this.remainingSeats -= distance + 1;
+      this.handlePlayerAction(nextIdx);
+      currIdx = nextIdx == seats - 1 ? 0 : nextIdx + 1;
+      nextIdx = this.liveCount == 0 ? -1 : this.nextLive[nextIdx];
     }
-    System.out.println("Pot is " + this.pot);
+    this.skipSeats(currIdx, this.remainingSeats);
+    this.output.pot(this.pot);
     resetRoundData();
   }
 
-  public void assignPositions(final int handsPlayed) {
-    final int randomTablePosition = Helpers.randomInRange(0,
-        GameSession.PLAYERS_SEATED - 1);
-    final int smallBlindIdx = handsPlayed == 1 ? randomTablePosition : this.bigBlindIdx;
-    this.bigBlindIdx = smallBlindIdx == GameSession.PLAYERS_SEATED - 1 ? 0
-        : smallBlindIdx + 1;
-    players[smallBlindIdx].setSmallBlind();
-    players[this.bigBlindIdx].setBigBlind();
-  }
-  
-  private void handlePlayerAction(final Player player) {
-    delay();
-    final int randomDecisionNum = this.getRandomDecisionNum(player);
-    final Set<Action> actionsKeySet = this.actions.keySet();
-    for (final Action action : actionsKeySet) {
-      if (action.getRange().contains(randomDecisionNum)) {
-        this.actions.get(action).accept(player);
-        break;
-      }
+  private int firstLiveSeat(final int fromIdx) {
+    if (this.liveCount == 0) return -1;
+    for (int i = 0, idx = fromIdx; i < players.length; i++) {
+      if (this.isLive[idx]) return idx;
+      if (++idx == players.length) idx = 0;
     }
+    return -1;
   }
 
-  private void delay() {
-    final int MIN_DELAY_TIME = 1000;
-    final int MAX_DELAY_TIME = 3000;
-    final int randomSleepTime = Helpers.randomInRange(MIN_DELAY_TIME, MAX_DELAY_TIME);
-    try {
-      Thread.sleep(randomSleepTime);
-    } catch (Exception e) {
-      System.out.println(e.getMessage());
+  private void skipSeats(final int fromIdx, final int count) {
+    if (!this.output.isEnabled()) return;
+    for (int i = 0, idx = fromIdx; i < count; i++) {
+      this.output.skip(idx, players[idx]);
+      if (++idx == players.length) idx = 0;
     }
   }
 
-  private int getRandomDecisionNum(final Player player) {
-    final boolean canCheck = player.canCheck(this.raiseSum, this.isPreflop);
-    final int RANGE_LENGTH = canCheck ? 12 : 10;
-    final int handStrength = player.getCombination().ordinal();
-    final int MIN_CHECK_NUMBER = GameSession.MAX_CHECK_NUM - RANGE_LENGTH
-        - handStrength;
-    final int MAX_CHECK_NUMBER = GameSession.MAX_CHECK_NUM - handStrength;
-    final int MIN_RANDOM_NUMBER = canCheck ? MIN_CHECK_NUMBER : handStrength;
-    final int MAX_RANDOM_NUMBER = canCheck ? MAX_CHECK_NUMBER
-        : RANGE_LENGTH + handStrength;
-    return Helpers.randomInRange(MIN_RANDOM_NUMBER, MAX_RANDOM_NUMBER);
-  }
-
-  private void makeUserTurn(final Player player) {
-    final Action userAction = acceptActionInput(player);
-    final Set<Action> keySet = this.actions.keySet();
-    for (final Action action : keySet) {
-      if (action == userAction) {
-        this.actions.get(action).accept(player);
-        break;
-      }
+  private void linkLiveSeats() {
+    this.liveCount = 0;
+    this.activeCount = 0;
+    int first = -1;
+    int last = -1;
+    for (int seat = 0; seat < players.length; seat++) {
+      final Player player = players[seat];
+      if (player.isActive()) this.activeCount++;
+      this.isLive[seat] = player.isActive() && player.getBalance() > 0;
+      if (!this.isLive[seat]) continue;
+      if (first < 0) first = seat;
+      else this.nextLive[last] = seat;
+      this.prevLive[seat] = last;
+      last = seat;
+      this.liveCount++;
     }
+    if (first < 0) return;
+    this.nextLive[last] = first;
+    this.prevLive[first] = last;
   }
 
-  private Action acceptActionInput(final Player player) {
-    final Scanner input = new Scanner(System.in);
-    final int balance = player.getBalance();
+  private void unlinkSeat(final int seat) {
+    if (!this.isLive[seat]) return;
+    this.isLive[seat] = false;
+    this.liveCount--;
+    this.nextLive[this.prevLive[seat]] = this.nextLive[seat];
+    this.prevLive[this.nextLive[seat]] = this.prevLive[seat];
+  }
+
+  private void unlinkIfAllIn(final int seat) {
+    if (players[seat].getBalance() == 0) this.unlinkSeat(seat);
+  }
+
+  public void setRandom(final RandomSource random) {
+    this.random = random;
+  }
+
+  public void setHandListener(final HandListener listener) {
+    this.listener = listener;
+  }
+
+  void setOpponentTracker(final OpponentTracker tracker) {
+    this.decision.setTracker(tracker);
+  }
+
+  public void assignPositions(final long handsPlayed) {
+    final int randomTablePosition = this.random.nextInt(players.length);
+    this.smallBlindIdx = handsPlayed == 1 ? randomTablePosition : this.bigBlindIdx;
+    this.bigBlindIdx = this.smallBlindIdx == players.length - 1 ? 0
+        : this.smallBlindIdx + 1;
+    final int smallBlind = players[this.smallBlindIdx].setSmallBlind();
+    final int bigBlind = players[this.bigBlindIdx].setBigBlind();
+    this.pot += smallBlind + bigBlind;
+    this.listener.onBlind(this.smallBlindIdx, smallBlind, false);
+    this.listener.onBlind(this.bigBlindIdx, bigBlind, true);
+    this.linkLiveSeats();
+  }
+
+  private void handlePlayerAction(final int idx) {
+    final Player player = players[idx];
     final boolean canCheck = player.canCheck(this.raiseSum, this.isPreflop);
-    final Action[] actionsArr = Action.values();
-    try {
-      final String raiseStr = balance > this.raiseSum ? "Raise, " : "";
-      final String cancCheckStr = canCheck ? " or Check: " : " Call, or Fold:  ";
-      System.out.print("Your balance is " + balance + ". Enter " + raiseStr +
-          cancCheckStr);
-      final String inputStr = input.nextLine().substring(0,
-          2).toUpperCase();
-      for (final Action action : actionsArr) {
-        if (action.toString().startsWith(inputStr)) return action;
-      }
-    } catch (Exception e) {
-      System.out.println("Error message: " + e.getMessage());
-    }
-    return canCheck ? Action.CHECK : Action.CALL;
+    this.decision.update(this.raiseSum, canCheck, this.isPreflop,
+        this.tableMask, this.activeCount - 1, this.random);
+    this.decision.setSeats(idx, this.aggressorIdx);
+    final long decisionStart = Metrics.start();
+    final Action action = this.strategies[idx].chooseAction(player, this.decision);
+    this.actionsPlayed++;
+    this.actions.get(action).accept(idx);
+    Metrics.record(Phase.DECISION, decisionStart);
+  }
+
+  private void handleFoldAction(final int idx) {
+    final Player player = players[idx];
+    player.fold();
+    this.activeCount--;
+    this.unlinkSeat(idx);
+    this.listener.onAction(idx, Action.FOLD, 0);
+    this.output.action(idx, player, Action.FOLD, 0);
+  }
+
+  private void handleCallAction(final int idx) {
+    final Player player = players[idx];
+    final int diff = player.putMoneyInPot(this.raiseSum, Action.CALL);
+    this.pot += diff;
+    this.unlinkIfAllIn(idx);
+    this.listener.onAction(idx, Action.CALL, diff);
+    this.output.action(idx, player, Action.CALL, diff);
   }
 
-  private void handleRaiseAction(final Player player) {
-    final int idx = Arrays.asList(players).indexOf(player);
+  private void handleCheckAction(final int idx) {
+    final Player player = players[idx];
+    this.listener.onAction(idx, Action.CHECK, 0);
+    this.output.action(idx, player, Action.CHECK, 0);
+  }
+
+  private void handleRaiseAction(final int idx) {
+    final Player player = players[idx];
     final int balance = player.getBalance();
     if (this.raiseSum > balance) {
-      this.pot += player.putMoneyInPot(this.raiseSum, Action.CALL);
+      this.handleCallAction(idx);
     } else {
-      if (idx == 0) {
-        this.raiseSum = acceptRaiseSumInput();
-      } else {
-        final int MAX_RAISE_FACTOR = 5;
-        final int RAISE_SUM_LIMIT = this.raiseSum * MAX_RAISE_FACTOR;
-        this.raiseSum += Helpers.randomInRange(this.raiseSum, RAISE_SUM_LIMIT,
-            GameSession.SMALL_BLIND_SIZE);
-      }
-      this.pot += player.putMoneyInPot(this.raiseSum, Action.RAISE);
-      this.playersPlayed = 1;
+      this.raiseSum = this.strategies[idx].chooseRaiseSum(player, this.decision);
+      final int diff = player.putMoneyInPot(this.raiseSum, Action.RAISE);
+      this.pot += diff;
+      this.unlinkIfAllIn(idx);
+      this.listener.onAction(idx, Action.RAISE, diff);
+      this.output.action(idx, player, Action.RAISE, this.raiseSum);
+      this.remainingSeats = players.length - 1;
+      this.aggressorIdx = idx;
     }
   }
 
-  private int acceptRaiseSumInput() {
-    final Scanner input = new Scanner(System.in);
-    int newRaiseSum = 0;
-    do {
-      try {
-        System.out.print("Enter raise sum: ");
-        newRaiseSum = input.nextInt();
-      } catch (Exception e) {
-        newRaiseSum = this.raiseSum * 2;
-      }
-    } while (newRaiseSum < this.raiseSum);
-    return newRaiseSum;
-  }
-
   private void resetRoundData() {
     for (final Player player : players) player.newRound();
-    this.playersPlayed = 0;
     if (this.isPreflop) this.isPreflop = false;
     this.raiseSum = 100;
+    this.aggressorIdx = -1;
   }
 
   public void setPreflop() {
@@ -0,0 +1,76 @@
+package src;
+
+public final class SimulationEngine {
+  private static final int MIN_PLAYERS_WITH_BALANCE = 2;
+  private final GameSession session;
+  private boolean isSeated;
+
+  public SimulationEngine(final Strategy[] strategies) {
+    this(strategies, new RandomSource().getSeed());
+  }
+
+  public SimulationEngine(final Strategy[] strategies, final long seed) {
+    this(strategies, seed, new OpponentModel());
+  }
+
+  public SimulationEngine(final Strategy[] strategies, final long seed,
+      final OpponentModel opponentModel) {
+    this.session = new GameSession(Output.SILENT, strategies.clone(), seed);
+    this.session.setOpponentModel(opponentModel);
+  }
+
+  public static SimulationResult playHands(final int handsCount,
+      final Strategy[] strategies) {
+    return new SimulationEngine(strategies).playHands(handsCount);
+  }
+
+  public SimulationResult playHands(final int handsCount) {
+    final long actionsBefore = this.getActionsPlayed();
+    final long startTime = System.nanoTime();
+    for (int i = 0; i < handsCount; i++) this.playHand();
+    final long elapsedNanos = System.nanoTime() - startTime;
+    final long actions = this.getActionsPlayed() - actionsBefore;
+    return new SimulationResult(handsCount, actions, elapsedNanos);
+  }
+
+  public void playHand() {
+    if (!this.isSeated || this.session.playersWithBalance() < MIN_PLAYERS_WITH_BALANCE) {
+      this.reseat();
+    }
+    this.session.playHand();
+  }
+
+  public HandLoop loop() {
+    return new HandLoop(this::playHand);
+  }
+
+  public void setHandListener(final HandListener listener) {
+    this.session.setHandListener(listener);
+  }
+
+  public OpponentModel getOpponentModel() {
+    return this.session.getOpponentModel();
+  }
+
+  public void replayHand(final long handSeed) {
+    if (!this.isSeated) this.reseat();
+    this.session.playHand(handSeed);
+  }
+
+  public long getSeed() {
+    return this.session.getTableSeed();
+  }
+
+  public long getHandSeed() {
+    return this.session.getHandSeed();
+  }
+
+  public long getActionsPlayed() {
+    return this.session.getActionsPlayed();
+  }
+
+  private void reseat() {
+    this.session.seatPlayers(this.session.randomBalance(), "Player 1");
+    this.isSeated = true;
+  }
+}
@@ -0,0 +1,42 @@
+package src;
+
+public final class SimulationResult {
+  private static final double NANOS_IN_SECOND = 1e9;
+  private final long hands;
+  private final long actions;
+  private final long elapsedNanos;
+
+  public SimulationResult(final long hands, final long actions,
+      final long elapsedNanos) {
+    this.hands = hands;
+    this.actions = actions;
+    this.elapsedNanos = elapsedNanos;
+  }
+
+  public long getHands() {
+    return this.hands;
+  }
+
+  public long getActions() {
+    return this.actions;
+  }
+
+  public long getElapsedNanos() {
+    return this.elapsedNanos;
+  }
+
+  public double getHandsPerSecond() {
+    return this.hands * NANOS_IN_SECOND / Math.max(1, this.elapsedNanos);
+  }
+
+  public double getActionsPerSecond() {
+    return this.actions * NANOS_IN_SECOND / Math.max(1, this.elapsedNanos);
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%d hands, %d actions in %.3f s (%.0f hands/s, %.0f actions/s)",
+        this.hands, this.actions, this.elapsedNanos / NANOS_IN_SECOND,
+        this.getHandsPerSecond(), this.getActionsPerSecond());
+  }
+}
@@ -0,0 +1,26 @@
+package src;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.*;
+
+@FunctionalInterface
+public interface StopCondition {
+  boolean shouldStop(final HandLoop loop);
+
+  static StopCondition hands(final long handsCount) {
+    return loop -> loop.getHandsPlayed() >= handsCount;
+  }
+
+  static StopCondition duration(final long duration, final TimeUnit unit) {
+    final long nanos = unit.toNanos(duration);
+    return loop -> loop.getElapsedNanos() >= nanos;
+  }
+
+  static StopCondition balanceBelow(final IntSupplier balance, final int threshold) {
+    return loop -> balance.getAsInt() < threshold;
+  }
+
+  static StopCondition requested(final BooleanSupplier isRequested) {
+    return loop -> isRequested.getAsBoolean();
+  }
+}
@@ -0,0 +1,9 @@
+package src;
+
+import enums.Action;
+
+public interface Strategy {
+  Action chooseAction(final Player player, final Decision decision);
+
+  int chooseRaiseSum(final Player player, final Decision decision);
+}
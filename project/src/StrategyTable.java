@@ -0,0 +1,131 @@
+package src;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.file.*;
+import enums.Action;
+import staticClasses.Assets;
+
+public final class StrategyTable {
+  public static final int STREETS = GameSession.ROUNDS_LENGTH + 1;
+  public static final int MAX_RAISES = 3;
+  public static final int RAISE_FACTOR = 3;
+  public static final int BUCKETS = 16;
+  public static final int ACTIONS = Action.RAISE.ordinal() + 1;
+  public static final int INFO_SETS = STREETS * (MAX_RAISES + 1) * 2 * BUCKETS;
+  public static final String PATH_PROPERTY = "strategy.table";
+  public static final String DEFAULT_PATH = "assets/cfr-strategy.bin";
+  private static final int MAGIC = 0x43465253;
+  private static final int VERSION = 1;
+  private static final int HEADER_SIZE = 16;
+  private static final int SCALE = 255;
+  private static final int FLOP_CARDS = 3;
+  private static final Action[] ABSTRACT_ACTIONS = { Action.FOLD, Action.CALL, Action.RAISE };
+  private static volatile StrategyTable defaultTable;
+  private static volatile boolean isDefaultLoaded;
+  private final ByteBuffer probabilities;
+
+  private StrategyTable(final ByteBuffer probabilities) {
+    this.probabilities = probabilities;
+  }
+
+  public static StrategyTable load(final Path path) throws IOException {
+    return of(Assets.map(path), path.toString());
+  }
+
+  private static StrategyTable of(final ByteBuffer buffer, final String source)
+      throws IOException {
+    buffer.order(ByteOrder.LITTLE_ENDIAN);
+    if (buffer.capacity() != HEADER_SIZE + INFO_SETS * ACTIONS
+        || buffer.getInt(0) != MAGIC || buffer.getInt(Integer.BYTES) != VERSION) {
+      throw new IOException("Not a strategy table: " + source);
+    }
+    return new StrategyTable(buffer);
+  }
+
+  public static StrategyTable getDefault() {
+    if (!isDefaultLoaded) {
+      synchronized (StrategyTable.class) {
+        if (!isDefaultLoaded) {
+          try {
+            defaultTable = of(Assets.load(PATH_PROPERTY, DEFAULT_PATH), DEFAULT_PATH);
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+          isDefaultLoaded = true;
+        }
+      }
+    }
+    return defaultTable;
+  }
+
+  public static int infoSet(final int street, final int raises, final boolean isFacingBet,
+      final int bucket) {
+    final int facing = isFacingBet ? 1 : 0;
+    return ((street * (MAX_RAISES + 1) + raises) * 2 + facing) * BUCKETS + bucket;
+  }
+
+  public static boolean isLegal(final int infoSet, final Action action) {
+    final int raises = infoSet / (2 * BUCKETS) % (MAX_RAISES + 1);
+    final boolean isFacingBet = infoSet / BUCKETS % 2 == 1;
+    if (action == Action.FOLD) return isFacingBet;
+    return action != Action.RAISE || raises < MAX_RAISES;
+  }
+
+  public static int street(final long tableMask) {
+    return Math.max(0, Long.bitCount(tableMask) - FLOP_CARDS + 1);
+  }
+
+  public static int raises(final int raiseSum) {
+    final double raises = Math.log((double) raiseSum / GameSession.BIG_BLIND_SIZE)
+        / Math.log(RAISE_FACTOR);
+    return (int) Math.max(0, Math.min(MAX_RAISES, Math.round(raises)));
+  }
+
+  public static int bucket(final long handMask, final long tableMask,
+      final PreflopTable preflopTable, final BoardStrength boardStrength) {
+    final double strength = tableMask == 0L && preflopTable != null
+        ? preflopTable.getEquity(handMask, 1) : boardStrength.get(handMask, tableMask);
+    return Math.min(BUCKETS - 1, (int) (strength * BUCKETS));
+  }
+
+  public double getProbability(final int infoSet, final Action action) {
+    int total = 0;
+    for (int i = 0; i < ACTIONS; i++) total += this.weight(infoSet, i);
+    return total == 0 ? 0 : (double) this.weight(infoSet, action.ordinal()) / total;
+  }
+
+  public Action sampleAction(final int infoSet, final RandomSource random) {
+    int total = 0;
+    for (int i = 0; i < ACTIONS; i++) total += this.weight(infoSet, i);
+    if (total == 0) return Action.CALL;
+    int target = random.nextInt(total);
+    for (int i = 0; i < ACTIONS; i++) {
+      target -= this.weight(infoSet, i);
+      if (target < 0) return ABSTRACT_ACTIONS[i];
+    }
+    return Action.CALL;
+  }
+
+  private int weight(final int infoSet, final int action) {
+    return this.probabilities.get(HEADER_SIZE + infoSet * ACTIONS + action) & 0xff;
+  }
+
+  static void write(final Path path, final double[] strategySums) throws IOException {
+    final ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + INFO_SETS * ACTIONS)
+        .order(ByteOrder.LITTLE_ENDIAN);
+    buffer.putInt(MAGIC).putInt(VERSION).putInt(INFO_SETS).putInt(ACTIONS);
+    for (int infoSet = 0; infoSet < INFO_SETS; infoSet++) {
+      double total = 0;
+      for (int i = 0; i < ACTIONS; i++) total += strategySums[infoSet * ACTIONS + i];
+      for (int i = 0; i < ACTIONS; i++) {
+        final double probability = total > 0 ? strategySums[infoSet * ACTIONS + i] / total
+            : ABSTRACT_ACTIONS[i] == Action.CALL ? 1 : 0;
+        buffer.put((byte) Math.round(probability * SCALE));
+      }
+    }
+    final Path parent = path.toAbsolutePath().getParent();
+    if (parent != null) Files.createDirectories(parent);
+    Files.write(path, buffer.array());
+  }
+}
@@ -0,0 +1,117 @@
+package src;
+
+import java.lang.invoke.*;
+import java.util.concurrent.atomic.LongAdder;
+import staticClasses.HandEvaluator;
+
+public final class StrengthCache {
+  public static final String ENTRIES_PROPERTY = "strength.cache.entries";
+  public static final int MIN_ENTRIES = 1 << 20;
+  private static final int WAYS = 4;
+  private static final int KEY_BITS = Card.DECK_SIZE;
+  private static final long KEY_MASK = (1L << KEY_BITS) - 1;
+  private static final int VALUE_BITS = HandEvaluator.CATEGORY_SHIFT + 4;
+  private static final long VALUE_MASK = (1L << VALUE_BITS) - 1;
+  private static final int SUIT_BITS = HandEvaluator.RANKS_COUNT;
+  private static final int SUIT_MASK = (1 << SUIT_BITS) - 1;
+  private static final long MIX_FIRST = 0x9E3779B97F4A7C15L;
+  private static final long MIX_SECOND = 0xC2B2AE3D27D4EB4FL;
+  private static final VarHandle ENTRIES = MethodHandles.arrayElementVarHandle(long[].class);
+  private static final StrengthCache DEFAULT = create(Integer.getInteger(ENTRIES_PROPERTY, 0));
+  private final long[] entries;
+  private final int setMask;
+  private final int setBits;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  public StrengthCache(final int entries) {
+    final int capacity = Integer.highestOneBit((Math.max(MIN_ENTRIES, entries) - 1) << 1);
+    this.entries = new long[capacity];
+    this.setMask = capacity / WAYS - 1;
+    this.setBits = Integer.bitCount(this.setMask);
+  }
+
+  private static StrengthCache create(final int entries) {
+    return entries > 0 ? new StrengthCache(entries) : null;
+  }
+
+  public static StrengthCache getDefault() {
+    return DEFAULT;
+  }
+
+  public static int evaluate(final long cardsMask) {
+    return DEFAULT == null ? HandEvaluator.evaluate(cardsMask) : DEFAULT.get(cardsMask);
+  }
+
+  public static long canonical(final long cardsMask) {
+    final int clubs = (int) cardsMask & SUIT_MASK;
+    final int diamonds = (int) (cardsMask >>> SUIT_BITS) & SUIT_MASK;
+    final int spades = (int) (cardsMask >>> 2 * SUIT_BITS) & SUIT_MASK;
+    final int hearts = (int) (cardsMask >>> 3 * SUIT_BITS) & SUIT_MASK;
+    final int highFirst = Math.max(clubs, diamonds);
+    final int lowFirst = Math.min(clubs, diamonds);
+    final int highSecond = Math.max(spades, hearts);
+    final int lowSecond = Math.min(spades, hearts);
+    final int middleHigh = Math.min(highFirst, highSecond);
+    final int middleLow = Math.max(lowFirst, lowSecond);
+    return (long) Math.max(highFirst, highSecond) << 3 * SUIT_BITS
+        | (long) Math.max(middleHigh, middleLow) << 2 * SUIT_BITS
+        | (long) Math.min(middleHigh, middleLow) << SUIT_BITS
+        | Math.min(lowFirst, lowSecond);
+  }
+
+  public int get(final long cardsMask) {
+    final long key = mix(canonical(cardsMask));
+    final int set = ((int) key & this.setMask) * WAYS;
+    final long tag = key >>> this.setBits;
+    for (int way = 0; way < WAYS; way++) {
+      final long entry = (long) ENTRIES.getOpaque(this.entries, set + way);
+      if (entry >>> VALUE_BITS == tag && entry != 0) {
+        this.hits.increment();
+        return (int) (entry & VALUE_MASK);
+      }
+    }
+    this.misses.increment();
+    final int strength = HandEvaluator.evaluate(cardsMask);
+    final int victim = set + (int) (tag & (WAYS - 1));
+    ENTRIES.setOpaque(this.entries, victim, tag << VALUE_BITS | strength);
+    return strength;
+  }
+
+  public long getHits() {
+    return this.hits.sum();
+  }
+
+  public long getMisses() {
+    return this.misses.sum();
+  }
+
+  public double getHitRate() {
+    final long hits = this.getHits();
+    final long total = hits + this.getMisses();
+    return total == 0 ? 0 : (double) hits / total;
+  }
+
+  public int getCapacity() {
+    return this.entries.length;
+  }
+
+  public void clear() {
+    for (int i = 0; i < this.entries.length; i++) ENTRIES.setOpaque(this.entries, i, 0L);
+    this.hits.reset();
+    this.misses.reset();
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%d entries, %d hits, %d misses (%.1f%% hit rate)",
+        this.getCapacity(), this.getHits(), this.getMisses(), this.getHitRate() * 100);
+  }
+
+  private static long mix(final long key) {
+    long mixed = key * MIX_FIRST & KEY_MASK;
+    mixed ^= mixed >>> KEY_BITS / 2;
+    mixed = mixed * MIX_SECOND & KEY_MASK;
+    return mixed ^ mixed >>> KEY_BITS / 2;
+  }
+}
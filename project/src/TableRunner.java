@@ -0,0 +1,160 @@
+package src;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.Supplier;
+
+public final class TableRunner implements AutoCloseable {
+  public static final String THREADS_PROPERTY = "table.threads";
+  private static final int FALLBACK_THREADS = Math.max(1, Integer.getInteger(
+      THREADS_PROPERTY, Runtime.getRuntime().availableProcessors()));
+  private final ExecutorService executor = newVirtualThreadExecutor(() ->
+      Executors.newFixedThreadPool(FALLBACK_THREADS));
+  private final LongAdder handsPlayed = new LongAdder();
+  private final LongAdder actionsPlayed = new LongAdder();
+  private final AtomicInteger activeTables = new AtomicInteger();
+  private final AtomicInteger queuedTables = new AtomicInteger();
+  private final AtomicInteger failedTables = new AtomicInteger();
+  private final AtomicReference<Throwable> failure = new AtomicReference<>();
+  private final long startTime = System.nanoTime();
+  private final RandomSource seeds;
+  private volatile Supplier<HandListener> listeners = () -> HandListener.NONE;
+  private volatile Supplier<OpponentModel> opponentModels = OpponentModel::new;
+  private volatile boolean isStopped;
+
+  public TableRunner() {
+    this(new RandomSource().getSeed());
+  }
+
+  public TableRunner(final long seed) {
+    this.seeds = new RandomSource(seed);
+  }
+
+  public void setHandListeners(final Supplier<HandListener> listeners) {
+    this.listeners = listeners;
+  }
+
+  public void setOpponentModels(final Supplier<OpponentModel> opponentModels) {
+    this.opponentModels = opponentModels;
+  }
+
+  public void start(final int tablesCount, final long handsPerTable,
+      final Supplier<Strategy[]> strategies) {
+    for (int i = 0; i < tablesCount; i++) this.submit(strategies.get(), handsPerTable);
+  }
+
+  public Future<?> submit(final Strategy[] strategies, final long handsCount) {
+    final SimulationEngine engine = new SimulationEngine(strategies, this.nextSeed(),
+        this.opponentModels.get());
+    engine.setHandListener(this.listeners.get());
+    this.queuedTables.incrementAndGet();
+    return this.executor.submit(() -> this.runTable(engine, handsCount));
+  }
+
+  private synchronized long nextSeed() {
+    return this.seeds.nextLong();
+  }
+
+  public long getSeed() {
+    return this.seeds.getSeed();
+  }
+
+  private void runTable(final SimulationEngine engine, final long handsCount) {
+    this.queuedTables.decrementAndGet();
+    this.activeTables.incrementAndGet();
+    try {
+      new HandLoop(() -> {
+        final long actionsBefore = engine.getActionsPlayed();
+        engine.playHand();
+        this.handsPlayed.increment();
+        this.actionsPlayed.add(engine.getActionsPlayed() - actionsBefore);
+      }).stopWhen(StopCondition.hands(handsCount))
+          .stopWhen(StopCondition.requested(() -> this.isStopped))
+          .run();
+    } catch (RuntimeException | Error e) {
+      this.failedTables.incrementAndGet();
+      this.failure.compareAndSet(null, e);
+      throw e;
+    } finally {
+      this.activeTables.decrementAndGet();
+    }
+  }
+
+  public long getHandsPlayed() {
+    return this.handsPlayed.sum();
+  }
+
+  public long getActionsPlayed() {
+    return this.actionsPlayed.sum();
+  }
+
+  public int getActiveTables() {
+    return this.activeTables.get();
+  }
+
+  public int getQueuedTables() {
+    return this.queuedTables.get();
+  }
+
+  public int getFailedTables() {
+    return this.failedTables.get();
+  }
+
+  public SimulationResult getResult() {
+    return new SimulationResult(this.getHandsPlayed(), this.getActionsPlayed(),
+        System.nanoTime() - this.startTime);
+  }
+
+  public void shutdown() {
+    this.executor.shutdown();
+  }
+
+  public void stop() {
+    this.isStopped = true;
+    this.executor.shutdown();
+  }
+
+  public boolean awaitTermination(final long timeout, final TimeUnit unit)
+      throws InterruptedException {
+    if (!this.executor.awaitTermination(timeout, unit)) return false;
+    this.rethrowFailure();
+    return true;
+  }
+
+  @Override
+  public void close() {
+    this.stop();
+    try {
+      this.executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+    } catch (InterruptedException e) {
+      this.executor.shutdownNow();
+      Thread.currentThread().interrupt();
+    }
+    this.rethrowFailure();
+  }
+
+  private void rethrowFailure() {
+    final Throwable failure = this.failure.getAndSet(null);
+    if (failure != null) {
+      throw new IllegalStateException("Tables failed: " + this.getFailedTables(), failure);
+    }
+  }
+
+  @Override
+  public String toString() {
+    final SimulationResult result = this.getResult();
+    return String.format("%d active tables, %d queued, %s", this.getActiveTables(),
+        this.getQueuedTables(), result);
+  }
+
+  public static ExecutorService newVirtualThreadExecutor(
+      final Supplier<ExecutorService> fallback) {
+    try {
+      final Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+      return (ExecutorService) factory.invoke(null);
+    } catch (ReflectiveOperationException | UnsupportedOperationException e) {
+      return fallback.get();
+    }
+  }
+}
@@ -0,0 +1,288 @@
+package src;
+
+import jdk.incubator.vector.*;
+import enums.*;
+import staticClasses.HandEvaluator;
+
+final class VectorEvaluator {
+  private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+  private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+  private static final VectorSpecies<Integer> HALF_INTS = VectorSpecies.of(int.class,
+      VectorShape.forBitSize(LONGS.vectorBitSize() / 2));
+  private static final int MIN_LANES = 4;
+  private static final int CHUNK = 256;
+  private static final int RANKS_COUNT = HandEvaluator.RANKS_COUNT;
+  private static final int KICKERS_SHIFT = RANKS_COUNT;
+  private static final int RANK_MASK = (1 << RANKS_COUNT) - 1;
+  private static final int HAND_CARDS = 7;
+  private static final int MAX_KICKERS = 5;
+  private static final int PAIR_CARDS = 2;
+  private static final int TRIPS_CARDS = 3;
+  private static final int STRAIGHT_LENGTH = 5;
+  private static final int WHEEL_LOW = (1 << STRAIGHT_LENGTH - 1) - 1;
+  private static final int WHEEL_ACE = 1 << STRAIGHT_LENGTH - 1;
+  private static final int NO_STRAIGHT = -1;
+  private static final int PAIR = category(Combination.PAIR);
+  private static final int TWO_PAIRS = category(Combination.TWO_PAIRS);
+  private static final int THREE_OF_A_KIND = category(Combination.THREE_OF_A_KIND);
+  private static final int STRAIGHT = category(Combination.STRAIGHT);
+  private static final int FLUSH = category(Combination.FLUSH);
+  private static final int FULL_HOUSE = category(Combination.FULL_HOUSE);
+  private static final int FOUR_OF_A_KIND = category(Combination.FOUR_OF_A_KIND);
+  private static final int STRAIGHT_FLUSH = category(Combination.STRAIGHT_FLUSH);
+  private static final int ROYAL_FLUSH = category(Combination.ROYAL_FLUSH);
+  private static final Pass[] PASSES = { VectorEvaluator::countRanks,
+      VectorEvaluator::countLowSuits, VectorEvaluator::countHighSuits,
+      VectorEvaluator::highCard, VectorEvaluator::pair, VectorEvaluator::topPairs,
+      VectorEvaluator::twoPairs, VectorEvaluator::threeOfAKind,
+      VectorEvaluator::rankStraights, VectorEvaluator::straight, VectorEvaluator::flush,
+      VectorEvaluator::fullHouse, VectorEvaluator::fourOfAKind,
+      VectorEvaluator::flushStraights, VectorEvaluator::straightFlush };
+  private final int[] clubs = new int[CHUNK];
+  private final int[] diamonds = new int[CHUNK];
+  private final int[] spades = new int[CHUNK];
+  private final int[] hearts = new int[CHUNK];
+  private final int[] ranks = new int[CHUNK];
+  private final int[] pairs = new int[CHUNK];
+  private final int[] trips = new int[CHUNK];
+  private final int[] quads = new int[CHUNK];
+  private final int[] flushes = new int[CHUNK];
+  private final int[] topPairs = new int[CHUNK];
+  private final int[] straightHighs = new int[CHUNK];
+
+  static boolean isSupported() {
+    return INTS.length() >= MIN_LANES;
+  }
+
+  int evaluate(final long[] cardsMasks, final int count, final int[] strengths) {
+    int offset = 0;
+    while (offset < INTS.loopBound(count)) {
+      final int size = Math.min(CHUNK, INTS.loopBound(count - offset));
+      this.split(cardsMasks, offset, size);
+      for (final Pass pass : PASSES) pass.apply(this, strengths, offset, size);
+      offset += size;
+    }
+    return offset;
+  }
+
+  private void split(final long[] cardsMasks, final int offset, final int size) {
+    for (int i = 0; i < size; i += LONGS.length()) {
+      final LongVector cards = LongVector.fromArray(LONGS, cardsMasks, offset + i);
+      suit(cards, Suit.CLUBS).intoArray(this.clubs, i);
+      suit(cards, Suit.DIAMONDS).intoArray(this.diamonds, i);
+      suit(cards, Suit.SPADES).intoArray(this.spades, i);
+      suit(cards, Suit.HEARTS).intoArray(this.hearts, i);
+    }
+  }
+
+  private void countRanks(final int[] strengths, final int offset, final int size) {
+    for (int i = 0; i < size; i += INTS.length()) {
+      final IntVector c = IntVector.fromArray(INTS, this.clubs, i);
+      final IntVector d = IntVector.fromArray(INTS, this.diamonds, i);
+      final IntVector s = IntVector.fromArray(INTS, this.spades, i);
+      final IntVector h = IntVector.fromArray(INTS, this.hearts, i);
+      final IntVector cd = c.and(d);
+      final IntVector sh = s.and(h);
+      final IntVector trips = cd.and(s.or(h)).or(sh.and(c.or(d)));
+      c.or(d).or(s).or(h).intoArray(this.ranks, i);
+      cd.and(sh).intoArray(this.quads, i);
+      trips.intoArray(this.trips, i);
+      cd.or(sh).or(c.or(d).and(s.or(h))).and(trips.not()).intoArray(this.pairs, i);
+    }
+  }
+
+  private void countLowSuits(final int[] strengths, final int offset, final int size) {
+    for (int i = 0; i < size; i += INTS.length()) {
+      suitFlush(IntVector.fromArray(INTS, this.clubs, i))
+          .or(suitFlush(IntVector.fromArray(INTS, this.diamonds, i)))
+          .intoArray(this.flushes, i);
+    }
+  }
+
+  private void countHighSuits(final int[] strengths, final int offset, final int size) {
+    for (int i = 0; i < size; i += INTS.length()) {
+      IntVector.fromArray(INTS, this.flushes, i)
+          .or(suitFlush(IntVector.fromArray(INTS, this.spades, i)))
+          .or(suitFlush(IntVector.fromArray(INTS, this.hearts, i)))
+          .intoArray(this.flushes, i);
+    }
+  }
+
+  private void highCard(final int[] strengths, final int offset, final int size) {
+    for (int i = 0; i < size; i += INTS.length()) {
+      topRanks(IntVector.fromArray(INTS, this.ranks, i), MAX_KICKERS, HAND_CARDS)
+          .intoArray(strengths, offset + i);
+    }
+  }
+
+  private void pair(final int[] strengths, final int offset, final int size) {
+    for (int i = 0; i < size; i += INTS.length()) {
+      final IntVector ranks = IntVector.fromArray(INTS, this.ranks, i);
+      final IntVector pairs = IntVector.fromArray(INTS, this.pairs, i);
+      final IntVector kickers = topRanks(ranks.and(pairs.not()), MAX_KICKERS - PAIR_CARDS,
+          HAND_CARDS - PAIR_CARDS);
+      select(strengths, offset + i, PAIR, pairs, kickers,
+          pairs.compare(VectorOperators.NE, 0));
+    }
+  }
+
+  private void topPairs(final int[] strengths, final int offset, final int size) {
+    for (int i = 0; i < size; i += INTS.length()) {
+      topRanks(IntVector.fromArray(INTS, this.pairs, i), PAIR_CARDS,
+          HAND_CARDS / PAIR_CARDS).intoArray(this.topPairs, i);
+    }
+  }
+
+  private void twoPairs(final int[] strengths, final int offset, final int size) {
+    for (int i = 0; i < size; i += INTS.length()) {
+      final IntVector ranks = IntVector.fromArray(INTS, this.ranks, i);
+      final IntVector pairs = IntVector.fromArray(INTS, this.topPairs, i);
+      select(strengths, offset + i, TWO_PAIRS, pairs, topRank(ranks.and(pairs.not())),
+          pairs.and(pairs.sub(1)).compare(VectorOperators.NE, 0));
+    }
+  }
+
+  private void threeOfAKind(final int[] strengths, final int offset, final int size) {
+    for (int i = 0; i < size; i += INTS.length()) {
+      final IntVector ranks = IntVector.fromArray(INTS, this.ranks, i);
+      final IntVector trips = IntVector.fromArray(INTS, this.trips, i);
+      final IntVector kickers = topRanks(ranks.and(trips.not()), PAIR_CARDS,
+          HAND_CARDS - TRIPS_CARDS);
+      select(strengths, offset + i, THREE_OF_A_KIND, trips, kickers,
+          trips.compare(VectorOperators.NE, 0));
+    }
+  }
+
+  private void rankStraights(final int[] strengths, final int offset, final int size) {
+    this.straightHighs(this.ranks, size);
+  }
+
+  private void flushStraights(final int[] strengths, final int offset, final int size) {
+    this.straightHighs(this.flushes, size);
+  }
+
+  private void straightHighs(final int[] source, final int size) {
+    for (int i = 0; i < size; i += INTS.length()) {
+      final IntVector ranks = IntVector.fromArray(INTS, source, i);
+      final IntVector runs = runs(ranks);
+      final IntVector wheel = ranks.and(WHEEL_LOW).add(1).and(ranks.lanewise(
+          VectorOperators.LSHR, Rank.ACE.ordinal() - STRAIGHT_LENGTH + 1));
+      final IntVector high = bitCount(smear(runs)).add(Rank.FIVE.ordinal());
+      high.blend(NO_STRAIGHT, runs.or(wheel.and(WHEEL_ACE)).compare(VectorOperators.EQ, 0))
+          .intoArray(this.straightHighs, i);
+    }
+  }
+
+  private void straight(final int[] strengths, final int offset, final int size) {
+    for (int i = 0; i < size; i += INTS.length()) {
+      final IntVector high = IntVector.fromArray(INTS, this.straightHighs, i);
+      select(strengths, offset + i, STRAIGHT, IntVector.zero(INTS), high,
+          high.compare(VectorOperators.NE, NO_STRAIGHT));
+    }
+  }
+
+  private void flush(final int[] strengths, final int offset, final int size) {
+    for (int i = 0; i < size; i += INTS.length()) {
+      final IntVector flushes = IntVector.fromArray(INTS, this.flushes, i);
+      select(strengths, offset + i, FLUSH, IntVector.zero(INTS),
+          topRanks(flushes, MAX_KICKERS, HAND_CARDS), flushes.compare(VectorOperators.NE, 0));
+    }
+  }
+
+  private void fullHouse(final int[] strengths, final int offset, final int size) {
+    for (int i = 0; i < size; i += INTS.length()) {
+      final IntVector trips = IntVector.fromArray(INTS, this.trips, i);
+      final IntVector pairs = IntVector.fromArray(INTS, this.pairs, i);
+      final IntVector topTrips = topRank(trips);
+      final IntVector pair = topRank(trips.and(topTrips.not()).or(pairs));
+      select(strengths, offset + i, FULL_HOUSE, topTrips, pair,
+          trips.compare(VectorOperators.NE, 0).and(pair.compare(VectorOperators.NE, 0)));
+    }
+  }
+
+  private void fourOfAKind(final int[] strengths, final int offset, final int size) {
+    for (int i = 0; i < size; i += INTS.length()) {
+      final IntVector ranks = IntVector.fromArray(INTS, this.ranks, i);
+      final IntVector quads = IntVector.fromArray(INTS, this.quads, i);
+      select(strengths, offset + i, FOUR_OF_A_KIND, quads,
+          topRank(ranks.and(quads.not())), quads.compare(VectorOperators.NE, 0));
+    }
+  }
+
+  private void straightFlush(final int[] strengths, final int offset, final int size) {
+    for (int i = 0; i < size; i += INTS.length()) {
+      final IntVector high = IntVector.fromArray(INTS, this.straightHighs, i);
+      final IntVector category = IntVector.broadcast(INTS, STRAIGHT_FLUSH)
+          .blend(ROYAL_FLUSH, high.compare(VectorOperators.EQ, Rank.ACE.ordinal()));
+      IntVector.fromArray(INTS, strengths, offset + i)
+          .blend(category.or(high), high.compare(VectorOperators.NE, NO_STRAIGHT))
+          .intoArray(strengths, offset + i);
+    }
+  }
+
+  private static IntVector suit(final LongVector cards, final Suit suit) {
+    return cards.lanewise(VectorOperators.LSHR, suit.ordinal() * RANKS_COUNT)
+        .and(RANK_MASK).convertShape(VectorOperators.L2I, HALF_INTS, 0)
+        .reinterpretAsInts();
+  }
+
+  private static void select(final int[] strengths, final int index, final int category,
+      final IntVector ranks, final IntVector kickers, final VectorMask<Integer> isMade) {
+    final IntVector strength = ranks.lanewise(VectorOperators.LSHL, KICKERS_SHIFT)
+        .or(kickers).or(category);
+    IntVector.fromArray(INTS, strengths, index).blend(strength, isMade)
+        .intoArray(strengths, index);
+  }
+
+  private static int category(final Combination combination) {
+    return combination.ordinal() << HandEvaluator.CATEGORY_SHIFT;
+  }
+
+  private static IntVector suitFlush(final IntVector suit) {
+    return suit.and(IntVector.broadcast(INTS, STRAIGHT_LENGTH - 1).sub(bitCount(suit))
+        .lanewise(VectorOperators.ASHR, Integer.SIZE - 1));
+  }
+
+  private static IntVector bitCount(final IntVector ranks) {
+    IntVector counts = ranks.sub(ranks.lanewise(VectorOperators.LSHR, 1).and(0x5555));
+    counts = counts.and(0x3333).add(counts.lanewise(VectorOperators.LSHR, 2).and(0x3333));
+    counts = counts.add(counts.lanewise(VectorOperators.LSHR, 4)).and(0x0F0F);
+    return counts.add(counts.lanewise(VectorOperators.LSHR, Byte.SIZE)).and(0x1F);
+  }
+
+  private static IntVector smear(final IntVector ranks) {
+    IntVector smeared = ranks.or(ranks.lanewise(VectorOperators.LSHR, 1));
+    smeared = smeared.or(smeared.lanewise(VectorOperators.LSHR, 2));
+    smeared = smeared.or(smeared.lanewise(VectorOperators.LSHR, 4));
+    return smeared.or(smeared.lanewise(VectorOperators.LSHR, Byte.SIZE));
+  }
+
+  private static IntVector topRank(final IntVector ranks) {
+    final IntVector smeared = smear(ranks);
+    return smeared.lanewise(VectorOperators.XOR, smeared.lanewise(VectorOperators.LSHR, 1));
+  }
+
+  private static IntVector topRanks(final IntVector ranks, final int count,
+      final int maxCount) {
+    final IntVector counts = bitCount(ranks);
+    IntVector top = ranks;
+    for (int kept = count; kept < maxCount; kept++) {
+      final IntVector isExtra = IntVector.broadcast(INTS, kept).sub(counts)
+          .lanewise(VectorOperators.ASHR, Integer.SIZE - 1);
+      top = top.and(top.and(top.neg()).and(isExtra).not());
+    }
+    return top;
+  }
+
+  private static IntVector runs(final IntVector ranks) {
+    IntVector runs = ranks;
+    for (int shift = 1; shift < STRAIGHT_LENGTH; shift++) {
+      runs = runs.and(ranks.lanewise(VectorOperators.LSHR, shift));
+    }
+    return runs;
+  }
+
+  private interface Pass {
+    void apply(VectorEvaluator evaluator, int[] strengths, int offset, int size);
+  }
+}
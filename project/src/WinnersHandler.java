@@ -1,110 +1,111 @@
 package src;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 public class WinnersHandler extends Handler {
-  private int prevAllInSum;
-  private List<Player> winners;
-  private List<Player> unresolvedPlayers;
-  private List<Player> activeUnresolvedPlayers;
-  private int strongestHand;
-  private int winnerMoney;
-
-  public WinnersHandler(final Player[] players) {
-    super(players);
-    this.setFields();
+  private static final int SEAT_BITS = 8;
+  private static final int SEAT_MASK = (1 << SEAT_BITS) - 1;
+  private static final int NO_STRENGTH = -1;
+  private final long[] contributions;
+  private final int[] layerBest;
+  private int oddChipSeat;
+
+  public WinnersHandler(final Player[] players, final Output output) {
+    super(players, output);
+    this.contributions = new long[players.length];
+    this.layerBest = new int[players.length];
   }
 
   public void handle() {
-    final Player winner = winners.get(0);
-    if (winner.getBalance() != 0) {
-      this.allocSumToWinners(pot);
-      return;
+    final int count = this.sortContributions();
+    for (int i = count - 1, best = NO_STRENGTH; i >= 0; i--) {
+      final Player player = players[this.seat(i)];
+      if (player.isActive()) best = Math.max(best, player.getStrength());
+      this.layerBest[i] = best;
+    }
+    int prevLevel = 0;
+    int lastAwardedIdx = -1;
+    int deadMoney = 0;
+    for (int i = 0; i < count; i++) {
+      final int level = this.level(i);
+      if (level == prevLevel) continue;
+      final int layer = (level - prevLevel) * (count - i);
+      prevLevel = level;
+      if (this.layerBest[i] == NO_STRENGTH) {
+        deadMoney += layer;
+      } else {
+        this.award(layer, level, this.layerBest[i]);
+        lastAwardedIdx = i;
+      }
+    }
+    if (deadMoney == 0) return;
+    if (lastAwardedIdx >= 0) {
+      this.award(deadMoney, this.level(lastAwardedIdx), this.layerBest[lastAwardedIdx]);
+    } else {
+      this.refund();
     }
-    this.winnerMoney = winner.getMoneyInPot();
-    final List<Player> loserPlayers = this.getLoserPlayers();
-    final int lostAmount = this.getLostAmount(loserPlayers);
-    final int activePlayersInPot = this.activePlayersInPotCount();
-    final int winSum = (this.winnerMoney - this.prevAllInSum) *
-        activePlayersInPot;
-    this.allocSumToWinners(winSum + lostAmount);
-    if (this.pot == 0) return;
-    for (final Player lostPlayer : loserPlayers) lostPlayer.setResolved();
-    winner.setResolved();
-    this.setFields();
-    this.handle();
-  }
-
-  private void setFields() {
-    this.unresolvedPlayers = Arrays.asList(players).stream()
-    .filter(Objects::nonNull)
-    .filter(Player::isUnresolved)
-    .collect(Collectors.toList());
-    this.activeUnresolvedPlayers = unresolvedPlayers.stream()
-    .filter(Objects::nonNull)
-    .filter(Player::isActive)
-    .collect(Collectors.toList());
-    this.strongestHand = this.getStrongestHand();
-    this.winners = this.getWinners();
-    this.prevAllInSum = this.winnerMoney;
-  }
-
-  private List<Player> getWinners() {
-    return activeUnresolvedPlayers.stream().filter(Objects::nonNull).filter(this::winnersFilter)
-        .sorted(this::winnersSort).collect(Collectors.toList());
-  }
-
-  private boolean winnersFilter(final Player player) {
-    return player.getCombination().ordinal() == strongestHand;
-  }
-
-  private int winnersSort(final Player w1, final Player w2) {
-    return w1.getMoneyInPot() - w2.getMoneyInPot();
   }
 
-  private List<Player> getLoserPlayers() {
-    return unresolvedPlayers.stream()
-    .filter(Objects::nonNull).filter(this::losersFilter).collect(Collectors.toList());
+  private int sortContributions() {
+    int count = 0;
+    for (int seat = 0; seat < players.length; seat++) {
+      final Player player = players[seat];
+      if (player == null || player.getMoneyInPot() <= 0) continue;
+      this.contributions[count++] = (long) player.getMoneyInPot() << SEAT_BITS | seat;
+    }
+    Arrays.sort(this.contributions, 0, count);
+    return count;
   }
 
-  private boolean losersFilter(final Player player) {
-    return player.getMoneyInPot() < winnerMoney && !winners.contains(player);
+  private int seat(final int idx) {
+    return (int) (this.contributions[idx] & SEAT_MASK);
   }
 
-  private int getStrongestHand() {
-    return activeUnresolvedPlayers.stream().mapToInt(this::playerCombinationVal)
-        .reduce(0, Math::max);
+  private int level(final int idx) {
+    return (int) (this.contributions[idx] >>> SEAT_BITS);
   }
 
-  private int playerCombinationVal(final Player player) {
-    return player.getCombination().ordinal();
+  private void award(final int amount, final int level, final int strength) {
+    final int seatsCount = players.length;
+    int winnersCount = 0;
+    for (int seat = 0; seat < seatsCount; seat++) {
+      if (this.isLayerWinner(players[seat], level, strength)) winnersCount++;
+    }
+    final int share = amount / winnersCount;
+    int oddChips = amount % winnersCount;
+    for (int i = 0; i < seatsCount; i++) {
+      final Player player = players[(this.oddChipSeat + i) % seatsCount];
+      if (!this.isLayerWinner(player, level, strength)) continue;
+      final int oddChip = oddChips > 0 ? 1 : 0;
+      oddChips -= oddChip;
+      player.changeBalance(share + oddChip);
+    }
+    this.pot -= amount;
   }
 
-  private int getLostAmount(final List<Player> players) {
-    final int totalLossAmount = players.stream().mapToInt(Player::getMoneyInPot)
-        .reduce(0, Math::addExact);
-    return totalLossAmount - this.prevAllInSum * players.size();
+  private boolean isLayerWinner(final Player player, final int level,
+      final int strength) {
+    return player != null && player.isActive() && player.getMoneyInPot() >= level
+        && player.getStrength() == strength;
   }
 
-  private int activePlayersInPotCount() {
-    return unresolvedPlayers.stream().filter(this::playerMoneyInPotFilter)
-        .toArray().length;
+  private void refund() {
+    for (final Player player : players) {
+      if (player == null) continue;
+      player.changeBalance(player.getMoneyInPot());
+      this.pot -= player.getMoneyInPot();
+    }
   }
 
-  private boolean playerMoneyInPotFilter(final Player player) {
-    return player.getMoneyInPot() >= winnerMoney;
+  public void setPotSize(final int potSize) {
+    this.pot = potSize;
   }
 
-  private void allocSumToWinners(final int winSum) {
-    final int winnersSize = this.winners.size();
-    for (final Player winner : this.winners) {
-      winner.changeBalance(winSum / winnersSize);
-    }
-    this.pot -= winSum;
+  public int getPot() {
+    return this.pot;
   }
 
-  public void setPotSize(final int potSize) {
-    this.pot = potSize;
+  public void setOddChipSeat(final int seat) {
+    this.oddChipSeat = seat;
   }
 }
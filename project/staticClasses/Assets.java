@@ -0,0 +1,39 @@
+package staticClasses;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+
+public final class Assets {
+  public static ByteBuffer load(final String property, final String defaultPath) {
+    final String configured = System.getProperty(property);
+    try {
+      if (configured != null) {
+        final Path path = Paths.get(configured);
+        if (!Files.isRegularFile(path)) {
+          throw new IllegalStateException("Asset " + path.toAbsolutePath()
+              + " set by -D" + property + " does not exist");
+        }
+        return map(path);
+      }
+      final Path path = Paths.get(defaultPath);
+      if (Files.isRegularFile(path)) return map(path);
+      try (final InputStream input = Assets.class.getClassLoader()
+          .getResourceAsStream(defaultPath)) {
+        if (input != null) return ByteBuffer.wrap(input.readAllBytes());
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Cannot read asset " + defaultPath, e);
+    }
+    throw new IllegalStateException("Asset " + defaultPath + " is neither in "
+        + Paths.get("").toAbsolutePath() + " nor on the classpath; pass -D" + property
+        + "=<path>");
+  }
+
+  public static MappedByteBuffer map(final Path path) throws IOException {
+    try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+    }
+  }
+}
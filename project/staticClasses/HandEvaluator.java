@@ -0,0 +1,124 @@
+package staticClasses;
+
+import java.util.*;
+import enums.*;
+import src.Card;
+
+public final class HandEvaluator {
+  public static final int RANKS_COUNT = Rank.values().length;
+  public static final int SUITS_COUNT = Suit.values().length;
+  public static final int CATEGORY_SHIFT = 26;
+  private static final int KICKERS_SHIFT = 13;
+  private static final int RANK_MASK = (1 << RANKS_COUNT) - 1;
+  private static final int MAX_KICKERS = 5;
+  private static final int MIN_STRAIGHT_LENGTH = 5;
+  private static final int WHEEL_MASK = 0b1_0000_0000_1111;
+  private static final byte[] STRAIGHT_HIGH = new byte[RANK_MASK + 1];
+  private static final short[][] TOP_RANKS = new short[MAX_KICKERS + 1][RANK_MASK + 1];
+
+  static {
+    final int STRAIGHT_BITS = (1 << MIN_STRAIGHT_LENGTH) - 1;
+    for (int mask = 0; mask <= RANK_MASK; mask++) {
+      int high = -1;
+      for (int top = RANKS_COUNT - 1; top >= MIN_STRAIGHT_LENGTH - 1; top--) {
+        final int straight = STRAIGHT_BITS << (top - MIN_STRAIGHT_LENGTH + 1);
+        if ((mask & straight) == straight) {
+          high = top;
+          break;
+        }
+      }
+      if (high == -1 && (mask & WHEEL_MASK) == WHEEL_MASK) {
+        high = Rank.FIVE.ordinal();
+      }
+      STRAIGHT_HIGH[mask] = (byte) high;
+      for (int count = 0; count <= MAX_KICKERS; count++) {
+        int topRanks = mask;
+        while (Integer.bitCount(topRanks) > count) topRanks &= topRanks - 1;
+        TOP_RANKS[count][mask] = (short) topRanks;
+      }
+    }
+  }
+
+  public static long toMask(final List<Card> cards) {
+    long mask = 0L;
+    for (final Card card : cards) mask |= card.getMask();
+    return mask;
+  }
+
+  public static int evaluate(final List<Card> cards) {
+    return evaluate(toMask(cards));
+  }
+
+  public static int evaluate(final long cardsMask) {
+    final int clubs = suitRanks(cardsMask, Suit.CLUBS);
+    final int diamonds = suitRanks(cardsMask, Suit.DIAMONDS);
+    final int spades = suitRanks(cardsMask, Suit.SPADES);
+    final int hearts = suitRanks(cardsMask, Suit.HEARTS);
+    final int flushRanks = flushRanks(clubs, diamonds, spades, hearts);
+    if (flushRanks != 0) {
+      final int straightHigh = STRAIGHT_HIGH[flushRanks];
+      if (straightHigh == Rank.ACE.ordinal()) {
+        return strength(Combination.ROYAL_FLUSH, straightHigh);
+      }
+      if (straightHigh >= 0) {
+        return strength(Combination.STRAIGHT_FLUSH, straightHigh);
+      }
+    }
+    final int ranks = clubs | diamonds | spades | hearts;
+    final int quads = clubs & diamonds & spades & hearts;
+    if (quads != 0) {
+      return strength(Combination.FOUR_OF_A_KIND, quads << KICKERS_SHIFT
+          | TOP_RANKS[1][ranks & ~quads]);
+    }
+    final int trips = (clubs & diamonds & spades) | (clubs & diamonds & hearts)
+        | (clubs & spades & hearts) | (diamonds & spades & hearts);
+    final int pairs = ((clubs & diamonds) | (clubs & spades) | (clubs & hearts)
+        | (diamonds & spades) | (diamonds & hearts) | (spades & hearts)) & ~trips;
+    if (trips != 0) {
+      final int topTrips = TOP_RANKS[1][trips];
+      final int fullHousePair = TOP_RANKS[1][(trips & ~topTrips) | pairs];
+      if (fullHousePair != 0) {
+        return strength(Combination.FULL_HOUSE, topTrips << KICKERS_SHIFT
+            | fullHousePair);
+      }
+    }
+    if (flushRanks != 0) {
+      return strength(Combination.FLUSH, TOP_RANKS[MAX_KICKERS][flushRanks]);
+    }
+    final int straightHigh = STRAIGHT_HIGH[ranks];
+    if (straightHigh >= 0) {
+      return strength(Combination.STRAIGHT, straightHigh);
+    }
+    if (trips != 0) {
+      return strength(Combination.THREE_OF_A_KIND, trips << KICKERS_SHIFT
+          | TOP_RANKS[2][ranks & ~trips]);
+    }
+    if (Integer.bitCount(pairs) >= 2) {
+      final int topPairs = TOP_RANKS[2][pairs];
+      return strength(Combination.TWO_PAIRS, topPairs << KICKERS_SHIFT
+          | TOP_RANKS[1][ranks & ~topPairs]);
+    }
+    if (pairs != 0) {
+      return strength(Combination.PAIR, pairs << KICKERS_SHIFT
+          | TOP_RANKS[3][ranks & ~pairs]);
+    }
+    return strength(Combination.HIGH_CARD, TOP_RANKS[MAX_KICKERS][ranks]);
+  }
+
+  private static int suitRanks(final long cardsMask, final Suit suit) {
+    return (int) (cardsMask >>> (suit.ordinal() * RANKS_COUNT)) & RANK_MASK;
+  }
+
+  private static int flushRanks(final int clubs, final int diamonds,
+      final int spades, final int hearts) {
+    if (Integer.bitCount(clubs) >= MIN_STRAIGHT_LENGTH) return clubs;
+    if (Integer.bitCount(diamonds) >= MIN_STRAIGHT_LENGTH) return diamonds;
+    if (Integer.bitCount(spades) >= MIN_STRAIGHT_LENGTH) return spades;
+    if (Integer.bitCount(hearts) >= MIN_STRAIGHT_LENGTH) return hearts;
+    return 0;
+  }
+
+  private static int strength(final Combination combination, final int kickers) {
+    return combination.ordinal() << CATEGORY_SHIFT | kickers;
+  }
+}